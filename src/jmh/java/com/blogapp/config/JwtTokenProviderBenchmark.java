@@ -0,0 +1,62 @@
+package com.blogapp.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of resolving the user id from a bearer token.
+ *
+ * {@code perRequestParser} is the old path (new parser and full verification
+ * every call); {@code cachedVerification} is JwtTokenProvider with the
+ * verified-token cache, for a client reusing the same token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private SecretKey key;
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secret = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        provider = new JwtTokenProvider(secret, 24, 10_000);
+        token = provider.generateToken("65f1c0ffee0000000000beef", "reader@example.com", "Reader");
+    }
+
+    @Benchmark
+    public String perRequestParser() {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String cachedVerification() {
+        return provider.getUserIdFromToken(token);
+    }
+}
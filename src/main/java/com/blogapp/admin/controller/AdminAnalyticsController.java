@@ -0,0 +1,35 @@
+package com.blogapp.admin.controller;
+
+import com.blogapp.analytics.dto.response.UniqueReadersResponse;
+import com.blogapp.analytics.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Admin Analytics", description = "Reader analytics for admins")
+public class AdminAnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/unique-readers")
+    @Operation(summary = "Unique readers", description = "Estimated distinct readers over a date range, optionally limited to some blogs "
+            + "and/or sections, with a per-day breakdown. Readers are counted once across the whole range")
+    public ResponseEntity<UniqueReadersResponse> getUniqueReaders(
+            @Parameter(description = "First day (yyyy-MM-dd)", example = "2026-02-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive (yyyy-MM-dd)", example = "2026-02-28") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Limit to these blog IDs") @RequestParam(required = false) List<String> blogId,
+            @Parameter(description = "Limit to these section IDs") @RequestParam(required = false) List<String> sectionId) {
+
+        return ResponseEntity.ok(analyticsService.getUniqueReaders(from, to, blogId, sectionId));
+    }
+}
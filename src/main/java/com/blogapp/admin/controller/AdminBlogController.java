@@ -31,7 +31,8 @@ public class AdminBlogController {
 
         @GetMapping("/blogs")
         @Operation(summary = "Get blogs by status", description = "List blogs filtered by status (PENDING, PUBLISHED, REJECTED, DRAFT). "
-                        + "If no status is provided, returns all blogs.")
+                        + "If no status is provided, returns all blogs. Post bodies are not included — "
+                        + "use GET /api/admin/blogs/{id} for the full content.")
         public ResponseEntity<PageResponse<BlogDetailResponse>> getAdminBlogs(
                         @Parameter(description = "Filter by status: PENDING, PUBLISHED, REJECTED, DRAFT") @RequestParam(required = false) String status,
                         @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
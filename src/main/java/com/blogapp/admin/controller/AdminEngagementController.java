@@ -0,0 +1,38 @@
+package com.blogapp.admin.controller;
+
+import com.blogapp.engagement.dto.response.EngagementSeriesResponse;
+import com.blogapp.engagement.enums.Granularity;
+import com.blogapp.engagement.service.EngagementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/engagement")
+@RequiredArgsConstructor
+@Tag(name = "Admin Analytics", description = "Reader analytics for admins")
+public class AdminEngagementController {
+
+    private final EngagementService engagementService;
+
+    @GetMapping
+    @Operation(summary = "Engagement over time", description = "Views, likes, dislikes and comments per hour, day or month "
+            + "over a date range, optionally limited to some blogs and/or sections. Hourly data is kept for a short "
+            + "window only; use DAY or MONTH for older ranges")
+    public ResponseEntity<EngagementSeriesResponse> getSeries(
+            @Parameter(description = "Bucket size: HOUR, DAY or MONTH") @RequestParam(defaultValue = "DAY") Granularity granularity,
+            @Parameter(description = "First day (yyyy-MM-dd)", example = "2026-02-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive (yyyy-MM-dd)", example = "2026-02-28") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Limit to these blog IDs") @RequestParam(required = false) List<String> blogId,
+            @Parameter(description = "Limit to these section IDs") @RequestParam(required = false) List<String> sectionId) {
+
+        return ResponseEntity.ok(engagementService.getSeries(granularity, from, to, blogId, sectionId));
+    }
+}
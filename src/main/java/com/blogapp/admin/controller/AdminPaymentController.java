@@ -1,5 +1,6 @@
 package com.blogapp.admin.controller;
 
+import com.blogapp.entitlement.cache.EntitlementAccessCache;
 import com.blogapp.entitlement.entity.Entitlement;
 import com.blogapp.entitlement.repository.EntitlementRepository;
 import com.blogapp.payment.entity.Payment;
@@ -26,6 +27,7 @@ public class AdminPaymentController {
 
     private final PaymentRepository paymentRepository;
     private final EntitlementRepository entitlementRepository;
+    private final EntitlementAccessCache entitlementAccessCache;
 
     // ─── PAYMENTS ────────────────────────────────────────────────
 
@@ -131,17 +133,19 @@ public class AdminPaymentController {
             if (body.containsKey("scopeId")) {
                 ent.setScopeId(body.get("scopeId"));
             }
-            return ResponseEntity.ok(entitlementRepository.save(ent));
+            Entitlement saved = entitlementRepository.save(ent);
+            entitlementAccessCache.invalidate(saved.getUserId());
+            return ResponseEntity.ok(saved);
         }).orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/subscriptions/{id}")
     @Operation(summary = "Revoke an entitlement")
     public ResponseEntity<Void> deleteSubscription(@PathVariable String id) {
-        if (!entitlementRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        entitlementRepository.deleteById(id);
-        return ResponseEntity.noContent().build();
+        return entitlementRepository.findById(id).map(ent -> {
+            entitlementRepository.delete(ent);
+            entitlementAccessCache.invalidate(ent.getUserId());
+            return ResponseEntity.noContent().<Void>build();
+        }).orElse(ResponseEntity.notFound().build());
     }
 }
@@ -1,5 +1,8 @@
 package com.blogapp.admin.controller;
 
+import com.blogapp.common.http.EdgeCachePurger;
+import com.blogapp.common.http.ResourceVersions;
+import com.blogapp.common.http.SurrogateKeys;
 import com.blogapp.payment.config.PricingConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -7,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -16,6 +20,8 @@ import java.util.Map;
 public class AdminPricingController {
 
     private final PricingConfig pricingConfig;
+    private final ResourceVersions resourceVersions;
+    private final EdgeCachePurger edgeCachePurger;
 
     @GetMapping
     @Operation(summary = "Get current pricing config")
@@ -43,6 +49,10 @@ public class AdminPricingController {
             Map<String, Integer> discounts = (Map<String, Integer>) body.get("durationDiscounts");
             pricingConfig.setDurationDiscounts(discounts);
         }
+
+        // Public pricing responses are cached by clients and the edge
+        resourceVersions.bump(SurrogateKeys.PRICING);
+        edgeCachePurger.purge(List.of(SurrogateKeys.PRICING));
         return ResponseEntity.ok(getPricingMap());
     }
 
@@ -0,0 +1,45 @@
+package com.blogapp.analytics.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estimated unique readers over a date range")
+public class UniqueReadersResponse {
+
+    @Schema(description = "First day (inclusive)")
+    private LocalDate from;
+
+    @Schema(description = "Last day (inclusive)")
+    private LocalDate to;
+
+    @Schema(description = "Blogs included — empty means all")
+    private List<String> blogIds;
+
+    @Schema(description = "Sections included — empty means all")
+    private List<String> sectionIds;
+
+    @Schema(description = "Estimated distinct readers across the whole range and selection (~1.6% standard error)")
+    private long uniqueReaders;
+
+    @Schema(description = "Per-day estimates for the same selection")
+    private List<DayCount> days;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DayCount {
+        private LocalDate date;
+        private long uniqueReaders;
+    }
+}
@@ -0,0 +1,57 @@
+package com.blogapp.analytics.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Unique readers of one blog on one day, as a HyperLogLog sketch — a fixed
+ * 4 KB whatever the traffic, and mergeable across days and posts.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "blog_daily_stats")
+@CompoundIndex(name = "date_section_idx", def = "{'date': 1, 'sectionId': 1}")
+@CompoundIndex(name = "blog_date_idx", def = "{'blogId': 1, 'date': 1}")
+public class BlogDailyStats {
+
+    // blogId + ":" + date
+    @Id
+    private String id;
+
+    private String blogId;
+
+    // Placement of the blog when the day was first recorded
+    private String sectionId;
+
+    private String subsectionId;
+
+    private LocalDate date;
+
+    // HyperLogLog registers (see common.util.HyperLogLog)
+    private byte[] visitorSketch;
+
+    // Estimate as of the last flush, for display without decoding the sketch
+    private long uniqueReaders;
+
+    @Version
+    private Long version;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public static String idOf(String blogId, LocalDate date) {
+        return blogId + ":" + date;
+    }
+}
@@ -0,0 +1,9 @@
+package com.blogapp.analytics.repository;
+
+import com.blogapp.analytics.entity.BlogDailyStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BlogDailyStatsRepository extends MongoRepository<BlogDailyStats, String> {
+}
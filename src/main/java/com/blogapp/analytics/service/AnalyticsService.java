@@ -0,0 +1,22 @@
+package com.blogapp.analytics.service;
+
+import com.blogapp.analytics.dto.response.UniqueReadersResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AnalyticsService {
+
+    /**
+     * Count a visitor of a blog for today's unique-reader sketch. The visitor
+     * id is only hashed into the sketch, never stored.
+     */
+    void recordVisit(String blogId, String visitor);
+
+    /**
+     * Unique readers over [from, to], optionally limited to some blogs and/or
+     * sections, from the union of the stored daily sketches.
+     */
+    UniqueReadersResponse getUniqueReaders(LocalDate from, LocalDate to, List<String> blogIds,
+            List<String> sectionIds);
+}
@@ -0,0 +1,125 @@
+package com.blogapp.analytics.service.impl;
+
+import com.blogapp.analytics.dto.response.UniqueReadersResponse;
+import com.blogapp.analytics.entity.BlogDailyStats;
+import com.blogapp.analytics.service.AnalyticsService;
+import com.blogapp.analytics.sketch.DailyVisitorSketches;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.common.exception.BadRequestException;
+import com.blogapp.common.util.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final DailyVisitorSketches dailyVisitorSketches;
+    private final MongoTemplate mongoTemplate;
+    private final int maxRangeDays;
+
+    public AnalyticsServiceImpl(DailyVisitorSketches dailyVisitorSketches, MongoTemplate mongoTemplate,
+            @Value("${blog.analytics.max-range-days:366}") int maxRangeDays) {
+        this.dailyVisitorSketches = dailyVisitorSketches;
+        this.mongoTemplate = mongoTemplate;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    @Override
+    public void recordVisit(String blogId, String visitor) {
+        if (blogId == null || visitor == null || visitor.isBlank())
+            return;
+        dailyVisitorSketches.record(blogId, visitor, LocalDate.now());
+    }
+
+    @Override
+    public UniqueReadersResponse getUniqueReaders(LocalDate from, LocalDate to, List<String> blogIds,
+            List<String> sectionIds) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new BadRequestException("Date range is limited to " + maxRangeDays + " days");
+        }
+        List<String> blogs = blogIds != null ? blogIds : List.of();
+        List<String> sections = sectionIds != null ? sectionIds : List.of();
+
+        // Visits not yet written are merged from read-only copies; the scheduled flush does the writing.
+        // Copied before reading stored sketches, so one a flush writes in between is seen in either
+        List<DailyVisitorSketches.PendingSketch> recent = dailyVisitorSketches.pending(from, to).stream()
+                .filter(pending -> blogs.isEmpty() || blogs.contains(pending.blogId()))
+                .toList();
+
+        Criteria criteria = Criteria.where("date").gte(from).lte(to);
+        if (!blogs.isEmpty()) {
+            criteria = criteria.and("blogId").in(blogs);
+        }
+        if (!sections.isEmpty()) {
+            criteria = criteria.and("sectionId").in(sections);
+        }
+        Query query = new Query(criteria);
+        query.fields().include("date", "visitorSketch");
+
+        // One sketch per day plus the overall union — never more than the range in memory
+        HyperLogLog total = new HyperLogLog();
+        Map<LocalDate, HyperLogLog> byDay = new TreeMap<>();
+        try (var stream = mongoTemplate.stream(query, BlogDailyStats.class)) {
+            stream.forEach(stats -> {
+                if (stats.getVisitorSketch() == null)
+                    return;
+                HyperLogLog sketch = HyperLogLog.fromBytes(stats.getVisitorSketch());
+                total.merge(sketch);
+                byDay.computeIfAbsent(stats.getDate(), d -> new HyperLogLog()).merge(sketch);
+            });
+        }
+
+        Set<String> inSections = sections.isEmpty() ? null : blogsInSections(recent, sections);
+        for (DailyVisitorSketches.PendingSketch pending : recent) {
+            if (inSections != null && !inSections.contains(pending.blogId()))
+                continue;
+            total.merge(pending.sketch());
+            byDay.computeIfAbsent(pending.date(), d -> new HyperLogLog()).merge(pending.sketch());
+        }
+
+        List<UniqueReadersResponse.DayCount> days = new ArrayList<>();
+        byDay.forEach((date, sketch) -> days.add(UniqueReadersResponse.DayCount.builder()
+                .date(date)
+                .uniqueReaders(sketch.estimate())
+                .build()));
+
+        return UniqueReadersResponse.builder()
+                .from(from)
+                .to(to)
+                .blogIds(blogs)
+                .sectionIds(sections)
+                .uniqueReaders(total.estimate())
+                .days(days)
+                .build();
+    }
+
+    private Set<String> blogsInSections(List<DailyVisitorSketches.PendingSketch> recent, List<String> sectionIds) {
+        if (recent.isEmpty())
+            return Set.of();
+        Set<String> blogIds = recent.stream()
+                .map(DailyVisitorSketches.PendingSketch::blogId)
+                .collect(Collectors.toSet());
+        Query query = new Query(Criteria.where("id").in(blogIds).and("sectionId").in(sectionIds));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, BlogPost.class).stream()
+                .map(BlogPost::getId)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,208 @@
+package com.blogapp.analytics.sketch;
+
+import com.blogapp.analytics.entity.BlogDailyStats;
+import com.blogapp.analytics.repository.BlogDailyStatsRepository;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.common.util.HyperLogLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Unique-visitor sketches per blog per day, collected in memory and merged
+ * into blog_daily_stats periodically.
+ *
+ * Each flush takes the pending sketches out of the map and folds each into
+ * its stored day document (optimistic locking, so instances can flush the
+ * same day concurrently). A failed write puts the sketch back for the next
+ * flush. When the maximum number of pending sketches is reached, visits for
+ * further blog-days are dropped and counted until the next flush. Queries
+ * read copies of the sketches not yet written through {@link #pending}
+ * instead of forcing a flush.
+ */
+@Slf4j
+@Component
+public class DailyVisitorSketches {
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private record DayKey(String blogId, LocalDate date) {
+    }
+
+    /**
+     * Copy of a sketch not yet written, safe for the caller to merge into.
+     */
+    public record PendingSketch(String blogId, LocalDate date, HyperLogLog sketch) {
+    }
+
+    private final BlogDailyStatsRepository statsRepository;
+    private final MongoTemplate mongoTemplate;
+    private final int maxPending;
+    private final ConcurrentHashMap<DayKey, HyperLogLog> pending = new ConcurrentHashMap<>();
+    // Sketches taken out by the running flush, until it finishes
+    private volatile Map<DayKey, HyperLogLog> flushing = Map.of();
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+
+    public DailyVisitorSketches(BlogDailyStatsRepository statsRepository, MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${blog.analytics.max-pending-sketches:5000}") int maxPending) {
+        this.statsRepository = statsRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.maxPending = maxPending;
+        Gauge.builder("blog.analytics.sketches.pending", pending, Map::size)
+                .description("Blog-day visitor sketches not yet written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("blog.analytics.flush")
+                .description("Time to merge visitor sketches into MongoDB")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("blog.analytics.visits.dropped")
+                .description("Visits not sketched because too many sketches were pending")
+                .register(meterRegistry);
+    }
+
+    public void record(String blogId, String visitor, LocalDate date) {
+        DayKey key = new DayKey(blogId, date);
+        if (!pending.containsKey(key) && pending.size() >= maxPending) {
+            droppedCounter.increment();
+            return;
+        }
+        // compute() holds the bin lock, so a flush can't take the sketch out mid-update
+        pending.compute(key, (k, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.add(visitor);
+            return target;
+        });
+    }
+
+    /**
+     * Copies of the sketches held in memory for days in the range, including
+     * those a flush is writing right now. A sketch may also be in the stored
+     * documents already; merging it again does not change a union.
+     */
+    public List<PendingSketch> pending(LocalDate from, LocalDate to) {
+        List<PendingSketch> copies = new ArrayList<>();
+        // pending before flushing: a sketch missed in pending was moved to the batch first
+        pending.forEach((key, sketch) -> copyIfInRange(key, sketch, from, to, copies));
+        flushing.forEach((key, sketch) -> copyIfInRange(key, sketch, from, to, copies));
+        return copies;
+    }
+
+    private void copyIfInRange(DayKey key, HyperLogLog sketch, LocalDate from, LocalDate to,
+            List<PendingSketch> copies) {
+        if (!key.date().isBefore(from) && !key.date().isAfter(to)) {
+            copies.add(new PendingSketch(key.blogId(), key.date(), HyperLogLog.fromBytes(sketch.toBytes())));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${blog.analytics.flush-interval-ms:60000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    public synchronized void flush() {
+        // Published before any sketch leaves pending, and each sketch joins the batch
+        // before it is removed, so a query always finds it in one of the two
+        Map<DayKey, HyperLogLog> batch = new ConcurrentHashMap<>();
+        flushing = batch;
+        for (DayKey key : Set.copyOf(pending.keySet())) {
+            pending.computeIfPresent(key, (k, sketch) -> {
+                batch.put(k, sketch);
+                return null;
+            });
+        }
+        if (batch.isEmpty()) {
+            flushing = Map.of();
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            Map<String, BlogPost> placements = findPlacements(batch);
+            batch.forEach((key, sketch) -> {
+                try {
+                    write(key, sketch, placements.get(key.blogId()));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to write visitor sketch for {} on {}, retrying next cycle: {}",
+                            key.blogId(), key.date(), e.getMessage());
+                    putBack(key, sketch);
+                }
+            });
+            log.debug("Flushed {} visitor sketches", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} visitor sketches, retrying next cycle: {}", batch.size(), e.getMessage());
+            batch.forEach(this::putBack);
+        } finally {
+            flushing = Map.of();
+            sample.stop(flushTimer);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Map<String, BlogPost> findPlacements(Map<DayKey, HyperLogLog> batch) {
+        Set<String> blogIds = batch.keySet().stream().map(DayKey::blogId).collect(Collectors.toSet());
+        Query query = new Query(Criteria.where("id").in(blogIds));
+        query.fields().include("sectionId", "subsectionId");
+        List<BlogPost> blogs = mongoTemplate.find(query, BlogPost.class);
+        return blogs.stream().collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+    }
+
+    private void write(DayKey key, HyperLogLog sketch, BlogPost placement) {
+        String id = BlogDailyStats.idOf(key.blogId(), key.date());
+        for (int attempt = 1; ; attempt++) {
+            BlogDailyStats stats = statsRepository.findById(id).orElseGet(() -> BlogDailyStats.builder()
+                    .id(id)
+                    .blogId(key.blogId())
+                    .date(key.date())
+                    .sectionId(placement != null ? placement.getSectionId() : null)
+                    .subsectionId(placement != null ? placement.getSubsectionId() : null)
+                    .build());
+
+            HyperLogLog merged = stats.getVisitorSketch() != null
+                    ? HyperLogLog.fromBytes(stats.getVisitorSketch())
+                    : new HyperLogLog();
+            merged.merge(sketch);
+            stats.setVisitorSketch(merged.toBytes());
+            stats.setUniqueReaders(merged.estimate());
+            try {
+                statsRepository.save(stats);
+                return;
+            } catch (OptimisticLockingFailureException | DuplicateKeyException e) {
+                // Another instance wrote the same day — merge into its version
+                if (attempt >= MAX_WRITE_ATTEMPTS)
+                    throw e;
+            }
+        }
+    }
+
+    private void putBack(DayKey key, HyperLogLog sketch) {
+        pending.merge(key, sketch, (current, returned) -> {
+            current.merge(returned);
+            return current;
+        });
+    }
+}
@@ -0,0 +1,179 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.dto.response.ArchiveResponse;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogPostChangedEvent;
+import com.blogapp.common.http.ResourceVersions;
+import com.blogapp.common.http.SurrogateKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Materialized year/month histogram of published posts, globally and per
+ * section.
+ *
+ * Built when the application is ready from the placement of every published
+ * post, and updated from {@link BlogPostChangedEvent}s whenever a post
+ * enters or leaves the published state (or moves). Because each post's
+ * placement is kept, applying a change sets that post's state instead of
+ * adding a delta, so changes made while a periodic rebuild runs can be
+ * replayed onto the new histogram without counting them twice. Rebuilds
+ * only invalidate cached responses when the histogram actually changed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchiveIndex {
+
+    // Scope key for the whole-site archive
+    private static final String ALL = "";
+
+    // A post's placement after a change; null state = no longer published
+    private record Change(String blogId, BlogPostChangedEvent.State state) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final ResourceVersions resourceVersions;
+
+    private volatile Histogram histogram = new Histogram();
+    // Non-null while a rebuild is running; guarded by this
+    private List<Change> changesDuringRebuild;
+
+    /**
+     * Archive for one section, or the whole site when sectionId is blank.
+     */
+    public List<ArchiveResponse> getArchive(String sectionId) {
+        Map<Integer, LongAdder> months = histogram.scopes
+                .get(sectionId == null || sectionId.isBlank() ? ALL : sectionId);
+        if (months == null)
+            return List.of();
+
+        List<ArchiveResponse> archive = new ArrayList<>();
+        ArchiveResponse currentYear = null;
+        List<Integer> keys = new ArrayList<>(months.keySet());
+        keys.sort(Comparator.reverseOrder());
+        for (int key : keys) {
+            long count = months.get(key).sum();
+            if (count <= 0)
+                continue;
+
+            int year = key / 100;
+            if (currentYear == null || currentYear.getYear() != year) {
+                currentYear = ArchiveResponse.builder().year(year).months(new ArrayList<>()).build();
+                archive.add(currentYear);
+            }
+            currentYear.getMonths().add(ArchiveResponse.MonthCount.builder()
+                    .month(key % 100)
+                    .count(count)
+                    .build());
+        }
+        return archive;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${blog.archive.resync-ms:3600000}",
+            initialDelayString = "${blog.archive.resync-ms:3600000}")
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        Histogram fresh = new Histogram();
+        try {
+            Query query = new Query(Criteria.where("status").is(BlogStatus.PUBLISHED.name()));
+            query.fields().include("status", "sectionId", "subsectionId", "year", "month");
+            try (Stream<BlogPost> blogs = mongoTemplate.stream(query, BlogPost.class)) {
+                blogs.forEach(blog -> fresh.put(blog.getId(), BlogPostChangedEvent.State.of(blog)));
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        boolean changed;
+        synchronized (this) {
+            changesDuringRebuild.forEach(change -> fresh.put(change.blogId(), change.state()));
+            changesDuringRebuild = null;
+            changed = !fresh.totals().equals(histogram.totals());
+            histogram = fresh;
+        }
+        if (changed) {
+            // Drift corrections change responses too
+            resourceVersions.bump(SurrogateKeys.BLOGS);
+        }
+        log.debug("Archive index rebuilt: {} scopes, changed: {}", fresh.scopes.size(), changed);
+    }
+
+    @EventListener
+    public synchronized void onBlogPostChanged(BlogPostChangedEvent event) {
+        Change change = new Change(event.blogId(), event.isPublished() ? event.after() : null);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+        histogram.put(change.blogId(), change.state());
+    }
+
+    private static final class Histogram {
+
+        private final Map<String, BlogPostChangedEvent.State> posts = new ConcurrentHashMap<>();
+        private final Map<String, Map<Integer, LongAdder>> scopes = new ConcurrentHashMap<>();
+
+        /**
+         * Set where a post is counted; a null state removes it.
+         */
+        void put(String blogId, BlogPostChangedEvent.State state) {
+            BlogPostChangedEvent.State previous = state != null ? posts.put(blogId, state) : posts.remove(blogId);
+            if (previous != null) {
+                add(previous, -1);
+            }
+            if (state != null) {
+                add(state, 1);
+            }
+        }
+
+        private void add(BlogPostChangedEvent.State state, long delta) {
+            if (state.year() == null || state.month() == null)
+                return;
+            int key = state.year() * 100 + state.month();
+            scopes.computeIfAbsent(ALL, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            if (state.sectionId() != null) {
+                scopes.computeIfAbsent(state.sectionId(), k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            }
+        }
+
+        /**
+         * Non-zero counts by scope and month, for comparing histograms.
+         */
+        Map<String, Map<Integer, Long>> totals() {
+            Map<String, Map<Integer, Long>> totals = new HashMap<>();
+            scopes.forEach((scope, months) -> months.forEach((key, count) -> {
+                long sum = count.sum();
+                if (sum > 0) {
+                    totals.computeIfAbsent(scope, k -> new HashMap<>()).put(key, sum);
+                }
+            }));
+            return totals;
+        }
+    }
+}
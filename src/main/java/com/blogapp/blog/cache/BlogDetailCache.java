@@ -0,0 +1,137 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.dto.response.BlogDetailResponse;
+import com.blogapp.blog.event.BlogPostChangedEvent;
+import com.blogapp.common.concurrent.SingleFlight;
+import com.blogapp.section.event.TaxonomyChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Rendered public detail responses of published posts, keyed by slug.
+ *
+ * A premium post has two entries: the free variant (part 1 only) and the
+ * full one. Entries are weighed by the size of their text, so the bound is
+ * roughly in bytes rather than posts. Counters in a cached response are not
+ * kept current — callers overlay live values on the copy they get. Entries
+ * are dropped on every {@link BlogPostChangedEvent} for the slug and on every
+ * {@link TaxonomyChangedEvent} for the post's section (responses carry
+ * section and subsection names), and concurrent misses for the same entry share one load through
+ * {@link SingleFlight}. Hit ratio, evictions and weight are published under
+ * the "blog.detail" cache name.
+ */
+@Component
+public class BlogDetailCache {
+
+    public enum Variant {
+        FREE, FULL
+    }
+
+    /**
+     * A rendered response with the version of the post it was rendered from
+     * (for conditional requests).
+     */
+    public record Entry(BlogDetailResponse response, String version, Instant lastModified) {
+    }
+
+    private record Key(String slug, Variant variant) {
+    }
+
+    // Rough per-entry cost of everything but the text fields
+    private static final int BASE_WEIGHT = 1024;
+
+    private final SingleFlight singleFlight;
+    private final Cache<Key, Entry> cache;
+
+    // Bumped on every invalidation so a load racing with a write isn't kept
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public BlogDetailCache(SingleFlight singleFlight, MeterRegistry meterRegistry,
+            @Value("${blog.detail-cache.max-weight-bytes:67108864}") long maxWeightBytes,
+            @Value("${blog.detail-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.singleFlight = singleFlight;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key key, Entry entry) -> weigh(entry.response()))
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "blog.detail");
+    }
+
+    /**
+     * The cached entry for the slug and variant, loading it on a miss, with
+     * a copy of the response. A loader that throws caches nothing.
+     */
+    public Entry get(String slug, Variant variant, Supplier<Entry> loader) {
+        Key key = new Key(slug, variant);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            entry = singleFlight.execute("blog.detail", key, () -> load(key, loader));
+        }
+        return new Entry(entry.response().toBuilder().build(), entry.version(), entry.lastModified());
+    }
+
+    private Entry load(Key key, Supplier<Entry> loader) {
+        long generation = invalidations.get();
+        Entry loaded = loader.get();
+        cache.put(key, loaded);
+        if (invalidations.get() != generation) {
+            // Invalidated while loading — the result may predate the write
+            cache.invalidate(key);
+        }
+        return loaded;
+    }
+
+    public void invalidate(String slug) {
+        invalidations.incrementAndGet();
+        for (Variant variant : Variant.values()) {
+            cache.invalidate(new Key(slug, variant));
+        }
+    }
+
+    /**
+     * Drop every entry of a section, or all entries when sectionId is null.
+     */
+    public void invalidateSection(String sectionId) {
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(entry -> sectionId == null
+                || sectionId.equals(entry.response().getSectionId()));
+    }
+
+    @EventListener
+    public void onBlogPostChanged(BlogPostChangedEvent event) {
+        if (event.slug() != null) {
+            invalidate(event.slug());
+        }
+    }
+
+    @EventListener
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        invalidateSection(event.sectionId());
+    }
+
+    private static int weigh(BlogDetailResponse response) {
+        long chars = length(response.getContentHtml())
+                + length(response.getContentJson())
+                + length(response.getContentPart1Html())
+                + length(response.getContentPart2Html())
+                + length(response.getExcerpt());
+        // Java strings are mostly Latin-1 compact; one byte per char is close enough
+        return (int) Math.min(Integer.MAX_VALUE, BASE_WEIGHT + chars);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
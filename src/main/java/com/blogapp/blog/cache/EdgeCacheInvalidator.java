@@ -0,0 +1,36 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.event.BlogPostChangedEvent;
+import com.blogapp.common.http.EdgeCachePurger;
+import com.blogapp.common.http.ResourceVersions;
+import com.blogapp.common.http.SurrogateKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Invalidates HTTP caches when a post that is or was public changes: bumps
+ * the collection version used for listing, archive and tree ETags, and
+ * purges the post, its sections and the collection pages from the edge.
+ */
+@Component
+@RequiredArgsConstructor
+public class EdgeCacheInvalidator {
+
+    private final ResourceVersions resourceVersions;
+    private final EdgeCachePurger edgeCachePurger;
+
+    @EventListener
+    public void onBlogPostChanged(BlogPostChangedEvent event) {
+        if (!event.wasPublished() && !event.isPublished())
+            return;
+
+        resourceVersions.bump(SurrogateKeys.BLOGS);
+        List<String> keys = List.of(SurrogateKeys.blog(event.blogId()), SurrogateKeys.BLOGS,
+                SurrogateKeys.ARCHIVE, SurrogateKeys.SECTIONS);
+        edgeCachePurger.purge(SurrogateKeys.withSections(keys,
+                event.before() != null ? event.before().sectionId() : null, event.after().sectionId()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Short-lived cache of listing totals, keyed on the normalized query
+ * criteria.
+ *
+ * Counts run on a small dedicated pool with a bounded queue so callers can
+ * start one and run the page query at the same time. Concurrent requests for
+ * the same criteria share a single in-flight count. Each caller's future
+ * times out on its own; a count that is rejected because the queue is full,
+ * or that takes too long, fails that future instead of blocking the request.
+ */
+@Component
+public class ListingCountCache {
+
+    private final MongoTemplate mongoTemplate;
+    private final ExecutorService executor;
+    private final AsyncCache<String, Long> cache;
+    private final long timeoutMs;
+
+    public ListingCountCache(MongoTemplate mongoTemplate,
+            @Value("${blog.listing.count-cache-ttl-seconds:30}") long ttlSeconds,
+            @Value("${blog.listing.count-cache-max-entries:1000}") long maxEntries,
+            @Value("${blog.listing.count-threads:4}") int threads,
+            @Value("${blog.listing.count-queue-capacity:100}") int queueCapacity,
+            @Value("${blog.listing.count-timeout-ms:1000}") long timeoutMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "listing-count-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .executor(executor)
+                .buildAsync();
+    }
+
+    /**
+     * Total number of blog posts matching the criteria — from the cache if a
+     * recent value exists, otherwise counted asynchronously. The returned
+     * future fails with a {@link TimeoutException} after the configured
+     * timeout, or with a {@link RejectedExecutionException} when the count
+     * could not be queued; a count that times out still completes and is
+     * cached for later requests.
+     */
+    public CompletableFuture<Long> count(Criteria criteria) {
+        String key = criteria.getCriteriaObject().toJson();
+        return cache.get(key, (k, pool) -> {
+            try {
+                return CompletableFuture.supplyAsync(
+                        () -> mongoTemplate.count(new Query(criteria), BlogPost.class), pool);
+            } catch (RejectedExecutionException e) {
+                // Failed futures are not kept by the cache
+                return CompletableFuture.failedFuture(e);
+            }
+        }).copy().orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
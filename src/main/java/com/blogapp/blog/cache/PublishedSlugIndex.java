@@ -0,0 +1,138 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogPostChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sets of all published slugs and ids, so requests for unknown slugs (and
+ * view beacons for unknown ids) can be answered without a database round
+ * trip.
+ *
+ * Loaded when the application is ready and kept current from
+ * {@link BlogPostChangedEvent}s; periodically rebuilt to correct drift.
+ * Changes arriving while a rebuild is running are replayed onto the new set
+ * before it is swapped in. Until the first load every slug and id is
+ * reported as possibly published.
+ */
+@Slf4j
+@Component
+public class PublishedSlugIndex {
+
+    private record Change(String slug, String blogId, boolean published) {
+    }
+
+    private record Published(Set<String> slugs, Set<String> ids) {
+
+        static Published empty() {
+            return new Published(ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final Counter rejectedCounter;
+
+    private volatile Published published;
+    // Non-null while a rebuild is running; guarded by this
+    private List<Change> changesDuringRebuild;
+
+    public PublishedSlugIndex(MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        Gauge.builder("blog.slugs.published", this,
+                index -> index.published == null ? 0 : index.published.slugs().size())
+                .description("Published slugs held in memory")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("blog.slugs.rejected")
+                .description("Slug lookups answered as not found without a database read")
+                .register(meterRegistry);
+    }
+
+    /**
+     * False only if the slug is known not to belong to a published post.
+     */
+    public boolean mightBePublished(String slug) {
+        Published current = published;
+        if (current == null || current.slugs().contains(slug))
+            return true;
+        rejectedCounter.increment();
+        return false;
+    }
+
+    /**
+     * False only if the id is known not to belong to a published post.
+     */
+    public boolean mightBePublishedId(String blogId) {
+        Published current = published;
+        return current == null || current.ids().contains(blogId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${blog.slugs.resync-ms:3600000}",
+            initialDelayString = "${blog.slugs.resync-ms:3600000}")
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        Published fresh = Published.empty();
+        try {
+            Query query = new Query(Criteria.where("status").is(BlogStatus.PUBLISHED.name()));
+            query.fields().include("slug");
+            for (BlogPost blog : mongoTemplate.find(query, BlogPost.class)) {
+                fresh.slugs().add(blog.getSlug());
+                fresh.ids().add(blog.getId());
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            changesDuringRebuild.forEach(change -> apply(fresh, change));
+            changesDuringRebuild = null;
+            published = fresh;
+        }
+        log.debug("Published slug index rebuilt: {} posts", fresh.ids().size());
+    }
+
+    @EventListener
+    public synchronized void onBlogPostChanged(BlogPostChangedEvent event) {
+        if (event.slug() == null)
+            return;
+        Change change = new Change(event.slug(), event.blogId(), event.isPublished());
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+        if (published != null) {
+            apply(published, change);
+        }
+    }
+
+    private static void apply(Published target, Change change) {
+        if (change.published()) {
+            target.slugs().add(change.slug());
+            target.ids().add(change.blogId());
+        } else {
+            target.slugs().remove(change.slug());
+            target.ids().remove(change.blogId());
+        }
+    }
+}
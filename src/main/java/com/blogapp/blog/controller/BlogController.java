@@ -1,20 +1,26 @@
 package com.blogapp.blog.controller;
 
+import com.blogapp.blog.dto.request.ViewBeaconRequest;
 import com.blogapp.blog.dto.response.ArchiveResponse;
 import com.blogapp.blog.dto.response.BlogDetailResponse;
 import com.blogapp.blog.dto.response.BlogSummaryResponse;
 import com.blogapp.blog.service.BlogService;
 import com.blogapp.common.dto.PageResponse;
-import com.blogapp.entitlement.service.EntitlementService;
+import com.blogapp.common.http.HttpCaching;
+import com.blogapp.common.http.ResourceVersions;
+import com.blogapp.common.http.SurrogateKeys;
 import com.blogapp.user.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,64 +31,87 @@ import java.util.List;
 public class BlogController {
 
     private final BlogService blogService;
-    private final EntitlementService entitlementService;
+    private final HttpCaching httpCaching;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping
-    @Operation(summary = "Get published blogs", description = "Fetch published blogs with optional search, section, year/month filter, and sorting")
+    @Operation(summary = "Get published blogs", description = "Fetch published blogs with optional search, section, year/month filter, and sorting. "
+            + "For authenticated callers each item carries an accessible flag")
     public ResponseEntity<PageResponse<BlogSummaryResponse>> getPublishedBlogs(
-            @Parameter(description = "Search keyword (searches title + excerpt)") @RequestParam(required = false) String search,
+            @Parameter(description = "Search keywords (matches title, excerpt, tags and body; stemmed)") @RequestParam(required = false) String search,
             @Parameter(description = "Filter by section ID") @RequestParam(required = false) String sectionId,
             @Parameter(description = "Filter by subsection ID") @RequestParam(required = false) String subsectionId,
             @Parameter(description = "Filter by year (e.g., 2026)") @RequestParam(required = false) Integer year,
             @Parameter(description = "Filter by month (1–12)") @RequestParam(required = false) Integer month,
-            @Parameter(description = "Sort order: recent (default), popular, oldest, most_commented") @RequestParam(required = false, defaultValue = "recent") String sort,
+            @Parameter(description = "Sort order: recent (default), popular, oldest, most_commented, relevance (with search)") @RequestParam(required = false, defaultValue = "recent") String sort,
             @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
-
-        return ResponseEntity
-                .ok(blogService.getPublishedBlogs(search, year, month, sectionId, subsectionId, sort, page, size));
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Keyset cursor (nextCursor of the previous response). Pass an empty value to start; "
+                    + "page is ignored and no totals are returned in cursor mode") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Compute totalElements/totalPages. Pass false to skip the count query") @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        String userId = getAuthenticatedUserId();
+        // Counters in listings change without a version bump, so no validators here — just a short max-age
+        return httpCaching.respond(audience(userId),
+                SurrogateKeys.withSections(List.of(SurrogateKeys.BLOGS), sectionId),
+                blogService.getPublishedBlogs(search, year, month, sectionId, subsectionId, sort, page, size,
+                        cursor, includeTotal, userId));
     }
 
     @GetMapping("/archive")
     @Operation(summary = "Get archive index", description = "Returns year → month breakdown with blog counts for the sidebar archive index")
-    public ResponseEntity<List<ArchiveResponse>> getArchive() {
-        return ResponseEntity.ok(blogService.getArchive());
+    public ResponseEntity<List<ArchiveResponse>> getArchive(
+            @Parameter(description = "Limit the archive to one section") @RequestParam(required = false) String sectionId,
+            WebRequest request) {
+        ResourceVersions.Version version = resourceVersions.current(SurrogateKeys.BLOGS);
+        return httpCaching.respond(request, HttpCaching.Audience.EVERYONE,
+                SurrogateKeys.withSections(List.of(SurrogateKeys.ARCHIVE), sectionId),
+                "archive:" + sectionId + ":" + version.tag(), version.lastModified(),
+                () -> blogService.getArchive(sectionId));
     }
 
     @GetMapping("/{slug}")
-    @Operation(summary = "Get blog by slug", description = "Fetch full blog detail. For premium blogs, part2 content is only returned if the user has an active entitlement.")
+    @Operation(summary = "Get blog by slug", description = "Fetch full blog detail. For premium blogs, part2 content is only returned if the user has an active entitlement. "
+            + "Supports If-None-Match / If-Modified-Since: an unchanged post is answered with 304 and no body")
     public ResponseEntity<BlogDetailResponse> getBlogBySlug(
-            @Parameter(description = "Blog slug", example = "how-to-prepare-for-igcse-physics") @PathVariable String slug) {
-
-        BlogDetailResponse blog = blogService.getBlogBySlug(slug);
-
-        // Increment view count asynchronously (fire-and-forget)
-        blogService.incrementViewCount(blog.getId());
-
-        // Paywall gating for premium blogs
-        if (blog.isPremium()) {
-            String userId = getAuthenticatedUserId();
-            boolean hasEntitlement = false;
-
-            if (userId != null) {
-                hasEntitlement = entitlementService.hasAccess(
-                        userId, blog.getId(), blog.getSectionId(), blog.getSubsectionId());
-            }
+            @Parameter(description = "Blog slug", example = "how-to-prepare-for-igcse-physics") @PathVariable String slug,
+            WebRequest request) {
+
+        String userId = getAuthenticatedUserId();
+        // Validators come from the cached version, before the full variant is loaded or serialized
+        BlogService.DetailVersion version = blogService.getBlogDetailVersion(slug, userId);
+
+        // No side effects: views are counted by the beacon below, so any HTTP cache may serve this.
+        // Entitlement is resolved inside the service, so part 2 is never loaded for readers without access
+        return httpCaching.respond(request, audience(userId),
+                SurrogateKeys.withSections(List.of(SurrogateKeys.blog(version.blogId())), version.sectionId()),
+                version.version(), version.lastModified(), () -> blogService.getBlogBySlug(slug, userId));
+    }
 
-            blog.setHasEntitlement(hasEntitlement);
+    @PostMapping("/{id}/view")
+    @Operation(summary = "Record a view", description = "View beacon fired by the frontend after rendering a post. "
+            + "Reading a post (GET) does not count a view; repeat views by the same visitor within the dedup window are dropped")
+    public ResponseEntity<Void> recordView(
+            @Parameter(description = "Blog ID") @PathVariable String id,
+            @Parameter(description = "Visitor key from cookie, used to drop repeat views") @RequestParam(required = false) String visitorKey,
+            HttpServletRequest httpRequest) {
+        blogService.recordViews(List.of(id), visitorKey, httpRequest.getRemoteAddr());
+        return ResponseEntity.accepted().build();
+    }
 
-            if (!hasEntitlement) {
-                // Hide premium content — only serve part 1
-                blog.setContentHtml(blog.getContentPart1Html());
-                blog.setContentPart2Html(null);
-                blog.setContentJson(null);
-            }
-        } else {
-            // Non-premium: full access
-            blog.setHasEntitlement(true);
-        }
+    @PostMapping("/views")
+    @Operation(summary = "Record views (batch)", description = "View beacon for several posts at once, e.g. flushed by the frontend on page hide")
+    public ResponseEntity<Void> recordViews(@Valid @RequestBody ViewBeaconRequest request,
+            HttpServletRequest httpRequest) {
+        blogService.recordViews(request.getBlogIds(), request.getVisitorKey(), httpRequest.getRemoteAddr());
+        return ResponseEntity.accepted().build();
+    }
 
-        return ResponseEntity.ok(blog);
+    /**
+     * Responses on this controller depend on the caller's entitlements.
+     */
+    private HttpCaching.Audience audience(String userId) {
+        return userId == null ? HttpCaching.Audience.ANONYMOUS : HttpCaching.Audience.USER;
     }
 
     /**
@@ -0,0 +1,60 @@
+package com.blogapp.blog.counter;
+
+import com.blogapp.blog.entity.BlogPostCounters;
+import com.blogapp.blog.repository.BlogPostRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Live counters of a blog for overlaying on cached responses.
+ *
+ * Stored counters are read with a counter-only projection and kept for a few
+ * seconds; views still waiting in the {@link ViewCountBuffer} are added on
+ * every read.
+ */
+@Component
+public class BlogCounterCache {
+
+    private final BlogPostRepository blogPostRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final Cache<String, BlogPostCounters> cache;
+
+    public BlogCounterCache(BlogPostRepository blogPostRepository, ViewCountBuffer viewCountBuffer,
+            MeterRegistry meterRegistry,
+            @Value("${blog.counters.cache-ttl-seconds:5}") long ttlSeconds,
+            @Value("${blog.counters.cache-max-entries:10000}") long maxEntries) {
+        this.blogPostRepository = blogPostRepository;
+        this.viewCountBuffer = viewCountBuffer;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "blog.counters");
+    }
+
+    /**
+     * Counters of the blog, with buffered views included. Empty if the blog
+     * doesn't exist.
+     */
+    public Optional<BlogPostCounters> get(String blogId) {
+        BlogPostCounters stored = cache.get(blogId, id -> blogPostRepository.findCounters(id).orElse(null));
+        if (stored == null)
+            return Optional.empty();
+
+        return Optional.of(BlogPostCounters.builder()
+                .id(stored.getId())
+                .viewsCount(stored.getViewsCount() + viewCountBuffer.pending(blogId))
+                .likesCount(stored.getLikesCount())
+                .dislikesCount(stored.getDislikesCount())
+                .commentsCount(stored.getCommentsCount())
+                .build());
+    }
+}
@@ -0,0 +1,163 @@
+package com.blogapp.blog.counter;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.repository.BlogPostCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for blog view counts.
+ *
+ * Views are added to a per-blog {@link LongAdder}, so concurrent views of a
+ * hot post don't contend on one lock, and written periodically as one
+ * unordered bulk write of $inc updates. A flush swaps each adder out of the
+ * map before draining it; a view that lands on an adder already swapped out
+ * drains it again and moves what it finds to the live one, so no view is
+ * lost or written twice. The buffer is drained on shutdown. When
+ * it already tracks the maximum number of blogs, views for new blogs are
+ * dropped and counted rather than growing without bound.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private final MongoTemplate mongoTemplate;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+
+    public ViewCountBuffer(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+            @Value("${blog.views.buffer-max-keys:100000}") int maxKeys) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxKeys = maxKeys;
+        Gauge.builder("blog.views.buffer.size", pending, Map::size)
+                .description("Blogs with buffered views")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("blog.views.flush")
+                .description("Time to write buffered views to MongoDB")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("blog.views.dropped")
+                .description("Views dropped because the buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffer a view. Returns false if it was dropped because the buffer is full.
+     */
+    public boolean increment(String blogId) {
+        LongAdder adder = pending.get(blogId);
+        if (adder == null) {
+            if (pending.size() >= maxKeys) {
+                droppedCounter.increment();
+                return false;
+            }
+            adder = pending.computeIfAbsent(blogId, id -> new LongAdder());
+        }
+        adder.increment();
+        reclaimIfSwapped(blogId, adder);
+        return true;
+    }
+
+    /**
+     * Views of a blog buffered but not yet written.
+     */
+    public long pending(String blogId) {
+        LongAdder adder = pending.get(blogId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * Write all buffered views. Updates rejected by a partially failed bulk
+     * write are put back for the next attempt; when the write fails as a whole
+     * (so it is unknown what was applied) all deltas are put back.
+     */
+    public synchronized void flush() {
+        List<Map.Entry<String, Long>> deltas = new ArrayList<>();
+        for (String blogId : List.copyOf(pending.keySet())) {
+            LongAdder adder = pending.remove(blogId);
+            // Views that land on the adder after this are reclaimed by their caller
+            long delta = adder != null ? adder.sumThenReset() : 0;
+            if (delta > 0) {
+                deltas.add(Map.entry(blogId, delta));
+            }
+        }
+
+        if (deltas.isEmpty())
+            return;
+
+        Timer.Sample sample = Timer.start();
+        try {
+            BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BlogPost.class);
+            deltas.forEach(delta -> ops.updateOne(
+                    new Query(Criteria.where("_id").is(delta.getKey())),
+                    new Update().inc(BlogPostCounterRepository.VIEWS, delta.getValue())));
+            ops.execute();
+            log.debug("Flushed views for {} blogs", deltas.size());
+        } catch (BulkOperationException e) {
+            // Errors carry the index of the failed update; the others were applied
+            log.warn("Failed to flush views for {} of {} blogs, retrying next cycle: {}",
+                    e.getErrors().size(), deltas.size(), e.getMessage());
+            e.getErrors().forEach(error -> restore(deltas.get(error.getIndex())));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush views for {} blogs, retrying next cycle: {}", deltas.size(), e.getMessage());
+            deltas.forEach(this::restore);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void restore(Map.Entry<String, Long> delta) {
+        add(delta.getKey(), delta.getValue());
+    }
+
+    private void add(String blogId, long delta) {
+        LongAdder adder = pending.computeIfAbsent(blogId, id -> new LongAdder());
+        adder.add(delta);
+        reclaimIfSwapped(blogId, adder);
+    }
+
+    /**
+     * If a flush swapped the adder out while it was being updated, the update
+     * may have missed the flush's drain. Drain it again and move whatever is
+     * left to the live adder. Each view is taken by exactly one drain, since
+     * sumThenReset swaps every cell atomically.
+     */
+    private void reclaimIfSwapped(String blogId, LongAdder adder) {
+        if (pending.get(blogId) == adder)
+            return;
+        long late = adder.sumThenReset();
+        if (late > 0) {
+            add(blogId, late);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
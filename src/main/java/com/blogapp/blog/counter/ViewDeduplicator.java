@@ -0,0 +1,85 @@
+package com.blogapp.blog.counter;
+
+import com.blogapp.common.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops repeated views of a post by the same visitor within the dedup
+ * window, before they reach the {@link ViewCountBuffer}.
+ *
+ * Two Bloom filters of fixed size: views are checked against both and
+ * recorded in the current one, and every window the older filter is cleared
+ * and becomes the current one. A (visitor, blog) pair is therefore
+ * remembered for between one and two windows. A false positive drops a real
+ * first view; its estimated rate is published as a gauge.
+ */
+@Slf4j
+@Component
+public class ViewDeduplicator {
+
+    private record Generation(BloomFilter current, BloomFilter previous) {
+    }
+
+    private final Counter acceptedCounter;
+    private final Counter droppedCounter;
+
+    private volatile Generation generation;
+
+    public ViewDeduplicator(MeterRegistry meterRegistry,
+            @Value("${blog.views.dedup.expected-views-per-window:1000000}") long expectedViews,
+            @Value("${blog.views.dedup.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.generation = new Generation(new BloomFilter(expectedViews, falsePositiveRate),
+                new BloomFilter(expectedViews, falsePositiveRate));
+        log.info("View dedup filters: 2 x {} KB", generation.current().sizeInBytes() / 1024);
+
+        this.acceptedCounter = Counter.builder("blog.views.dedup.accepted")
+                .description("Views counted as the first by their visitor in the window")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("blog.views.dedup.dropped")
+                .description("Views dropped as repeats within the window")
+                .register(meterRegistry);
+        Gauge.builder("blog.views.dedup.false-positive-rate", this, ViewDeduplicator::expectedFalsePositiveRate)
+                .description("Estimated chance that a first view is wrongly dropped as a repeat")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a view and return true if it is the visitor's first view of the
+     * blog in the window. A view without a visitor is always counted.
+     */
+    public boolean firstView(String visitor, String blogId) {
+        if (visitor == null || visitor.isBlank()) {
+            acceptedCounter.increment();
+            return true;
+        }
+
+        String key = visitor + '|' + blogId;
+        Generation current = generation;
+        boolean first = current.current().put(key) && !current.previous().mightContain(key);
+        (first ? acceptedCounter : droppedCounter).increment();
+        return first;
+    }
+
+    @Scheduled(fixedRateString = "${blog.views.dedup.window-ms:1800000}",
+            initialDelayString = "${blog.views.dedup.window-ms:1800000}")
+    public synchronized void rotate() {
+        Generation old = generation;
+        // Reuse the older filter's memory — a reader still holding it may see a few
+        // cleared bits, which can only let a repeat through
+        old.previous().clear();
+        generation = new Generation(old.previous(), old.current());
+    }
+
+    private double expectedFalsePositiveRate() {
+        Generation filters = generation;
+        double inCurrent = filters.current().expectedFalsePositiveRate();
+        double inPrevious = filters.previous().expectedFalsePositiveRate();
+        return 1 - (1 - inCurrent) * (1 - inPrevious);
+    }
+}
@@ -0,0 +1,28 @@
+package com.blogapp.blog.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Views of one or more blog posts, sent by the frontend after rendering")
+public class ViewBeaconRequest {
+
+    @NotEmpty(message = "At least one blog ID is required")
+    @Size(max = 50, message = "At most 50 blog IDs per beacon")
+    @Schema(description = "IDs of the blogs viewed", example = "[\"65a1b2c3d4e5f6789\"]")
+    private List<String> blogIds;
+
+    @Schema(description = "Visitor key from cookie/fingerprint, used to drop repeat views (IP address if absent)",
+            example = "visitor-abc-123")
+    private String visitorKey;
+}
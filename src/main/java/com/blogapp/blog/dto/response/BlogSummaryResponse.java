@@ -1,6 +1,7 @@
 package com.blogapp.blog.dto.response;
 
 import com.blogapp.blog.enums.BlogStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,12 +33,18 @@ public class BlogSummaryResponse {
     @Schema(description = "Featured image URL")
     private String featuredImageUrl;
 
+    @Schema(description = "Section ID")
+    private String sectionId;
+
     @Schema(description = "Section name")
     private String sectionName;
 
     @Schema(description = "Section slug")
     private String sectionSlug;
 
+    @Schema(description = "Subsection ID")
+    private String subsectionId;
+
     @Schema(description = "Subsection name")
     private String subsectionName;
 
@@ -70,4 +77,8 @@ public class BlogSummaryResponse {
 
     @Schema(description = "Whether this blog is premium-gated")
     private boolean premium;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Whether the caller can read the full post. Only present for authenticated callers")
+    private Boolean accessible;
 }
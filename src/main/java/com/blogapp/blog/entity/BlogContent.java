@@ -0,0 +1,38 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Post body, stored once per distinct content. The id is the SHA-256 of the
+ * HTML and JSON, so identical bodies share a single document and a changed
+ * body always gets a new id. Bodies no post refers to any more are removed by
+ * {@link com.blogapp.blog.scheduler.OrphanedContentSweeper}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "blog_contents")
+public class BlogContent {
+
+    @Id
+    private String id;
+
+    private String html;
+
+    private String json; // optional — for editors that output JSON (e.g., TipTap)
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    // Last time store() handed out this id; recent bodies are never swept
+    private LocalDateTime storedAt;
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -34,12 +35,18 @@ public class BlogPost {
     @TextIndexed(weight = 2)
     private String excerpt;
 
-    private String contentHtml;
+    // Body lives in blog_contents, keyed by content hash (shared by identical bodies)
+    @Indexed
+    private String contentId;
 
-    private String contentPart1Html; // First ~50% of content (free)
+    // Premium posts: code-point offset into the body where the gated part starts
+    private Integer premiumSplitOffset;
 
-    private String contentPart2Html; // Second ~50% of content (premium-gated)
+    // Body carried in memory on write (and when resolved) — never stored on blog_posts
+    @Transient
+    private String contentHtml;
 
+    @Transient
     private String contentJson; // optional — for editors that output JSON (e.g., TipTap)
 
     private String featuredImageUrl;
@@ -0,0 +1,34 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Transient;
+
+import java.util.Map;
+
+/**
+ * Counter fields of a {@link BlogPost}, as returned by atomic counter
+ * updates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogPostCounters {
+
+    private String id;
+
+    private long viewsCount;
+
+    private long likesCount;
+
+    private long dislikesCount;
+
+    private long commentsCount;
+
+    // Deltas applied by the update that returned these counters (skipped decrements left out)
+    @Transient
+    private Map<String, Integer> appliedDeltas;
+}
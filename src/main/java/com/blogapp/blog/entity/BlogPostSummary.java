@@ -0,0 +1,54 @@
+package com.blogapp.blog.entity;
+
+import com.blogapp.blog.enums.BlogStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only projection of a {@link BlogPost} for listing and notification
+ * paths. Only these fields are fetched from blog_posts, so post bodies never
+ * cross the wire when all we need is a card.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogPostSummary {
+
+    private String id;
+
+    private String title;
+
+    private String slug;
+
+    private String excerpt;
+
+    private String featuredImageUrl;
+
+    private String sectionId;
+
+    private String subsectionId;
+
+    private String authorName;
+
+    private Integer internalRating;
+
+    private BlogStatus status;
+
+    private LocalDateTime publishedAt;
+
+    private List<String> tags;
+
+    private long viewsCount;
+
+    private long likesCount;
+
+    private long dislikesCount;
+
+    private long commentsCount;
+}
@@ -0,0 +1,40 @@
+package com.blogapp.blog.event;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+
+/**
+ * Published after a blog post is saved through BlogService, with the state
+ * that matters to derived views (counts, archive, caches) before and after
+ * the change. {@code before} is null for a new post.
+ */
+public record BlogPostChangedEvent(String blogId, String slug, State before, State after) {
+
+    public BlogPostChangedEvent {
+        if (after == null)
+            throw new IllegalArgumentException("after must not be null");
+    }
+
+    public static BlogPostChangedEvent of(State before, BlogPost saved) {
+        return new BlogPostChangedEvent(saved.getId(), saved.getSlug(), before, State.of(saved));
+    }
+
+    public boolean wasPublished() {
+        return before != null && before.status() == BlogStatus.PUBLISHED;
+    }
+
+    public boolean isPublished() {
+        return after.status() == BlogStatus.PUBLISHED;
+    }
+
+    /**
+     * Status and placement of a post at one point in time.
+     */
+    public record State(BlogStatus status, String sectionId, String subsectionId, Integer year, Integer month) {
+
+        public static State of(BlogPost blog) {
+            return new State(blog.getStatus(), blog.getSectionId(), blog.getSubsectionId(), blog.getYear(),
+                    blog.getMonth());
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.blogapp.blog.dto.request.CreateBlogRequest;
 import com.blogapp.blog.dto.response.BlogDetailResponse;
 import com.blogapp.blog.dto.response.BlogSummaryResponse;
 import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.BlogPostSummary;
 import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.common.util.ContentSplitter;
 import com.blogapp.common.util.HtmlSanitizer;
 import com.blogapp.common.util.SlugUtil;
 import com.blogapp.section.entity.Section;
@@ -32,7 +34,7 @@ public class BlogMapper {
                 .build();
     }
 
-    public BlogSummaryResponse toSummaryResponse(BlogPost entity, Section section, Subsection subsection) {
+    public BlogSummaryResponse toSummaryResponse(BlogPostSummary entity, Section section, Subsection subsection) {
         boolean isPremium = entity.getInternalRating() != null && entity.getInternalRating() > 6;
         return BlogSummaryResponse.builder()
                 .id(entity.getId())
@@ -40,8 +42,10 @@ public class BlogMapper {
                 .slug(entity.getSlug())
                 .excerpt(entity.getExcerpt())
                 .featuredImageUrl(entity.getFeaturedImageUrl())
+                .sectionId(entity.getSectionId())
                 .sectionName(section != null ? section.getName() : null)
                 .sectionSlug(section != null ? section.getSlug() : null)
+                .subsectionId(entity.getSubsectionId())
                 .subsectionName(subsection != null ? subsection.getName() : null)
                 .subsectionSlug(subsection != null ? subsection.getSlug() : null)
                 .authorName(entity.getAuthorName())
@@ -56,8 +60,16 @@ public class BlogMapper {
                 .build();
     }
 
+    /**
+     * Body fields come from the entity's transient contentHtml/contentJson, so
+     * the caller decides whether the body is loaded; premium parts are sliced
+     * at the stored split offset.
+     */
     public BlogDetailResponse toDetailResponse(BlogPost entity, Section section, Subsection subsection) {
         boolean isPremium = entity.getInternalRating() != null && entity.getInternalRating() > 6;
+        String[] premiumParts = isPremium && entity.getContentHtml() != null && entity.getPremiumSplitOffset() != null
+                ? ContentSplitter.splitAt(entity.getContentHtml(), entity.getPremiumSplitOffset())
+                : null;
         return BlogDetailResponse.builder()
                 .id(entity.getId())
                 .title(entity.getTitle())
@@ -86,8 +98,8 @@ public class BlogMapper {
                 .createdAt(entity.getCreatedAt())
                 .internalRating(entity.getInternalRating())
                 .premium(isPremium)
-                .contentPart1Html(entity.getContentPart1Html())
-                .contentPart2Html(entity.getContentPart2Html())
+                .contentPart1Html(premiumParts != null ? premiumParts[0] : null)
+                .contentPart2Html(premiumParts != null ? premiumParts[1] : null)
                 .build();
     }
 }
@@ -0,0 +1,9 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.BlogContent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BlogContentRepository extends MongoRepository<BlogContent, String> {
+}
@@ -0,0 +1,30 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.BlogPostCounters;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Atomic counter updates on blog_posts, mixed into {@link BlogPostRepository}.
+ */
+public interface BlogPostCounterRepository {
+
+    String VIEWS = "viewsCount";
+    String LIKES = "likesCount";
+    String DISLIKES = "dislikesCount";
+    String COMMENTS = "commentsCount";
+
+    /**
+     * Apply the deltas with a single $inc and return the counters after the
+     * update. A decrement is skipped if the counter is already zero; the
+     * deltas actually applied are in {@link BlogPostCounters#getAppliedDeltas()}.
+     * Empty if the blog doesn't exist.
+     */
+    Optional<BlogPostCounters> incrementCounters(String blogId, Map<String, Integer> deltas);
+
+    /**
+     * Current counters of a blog, reading only the counter fields.
+     */
+    Optional<BlogPostCounters> findCounters(String blogId);
+}
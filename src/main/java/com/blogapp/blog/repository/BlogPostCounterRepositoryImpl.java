@@ -0,0 +1,67 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.BlogPostCounters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class BlogPostCounterRepositoryImpl implements BlogPostCounterRepository {
+
+    private static final String COLLECTION = "blog_posts";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<BlogPostCounters> incrementCounters(String blogId, Map<String, Integer> deltas) {
+        Query query = counterQuery(blogId);
+        Update update = new Update();
+        deltas.forEach((field, delta) -> {
+            update.inc(field, delta);
+            if (delta < 0) {
+                // Never go below zero
+                query.addCriteria(Criteria.where(field).gte(-delta));
+            }
+        });
+
+        BlogPostCounters counters = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), BlogPostCounters.class, COLLECTION);
+        if (counters != null) {
+            counters.setAppliedDeltas(deltas);
+            return Optional.of(counters);
+        }
+        if (deltas.values().stream().allMatch(delta -> delta >= 0)) {
+            return Optional.empty();
+        }
+
+        // A counter was already at zero — apply only the increments
+        Map<String, Integer> increments = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (increments.isEmpty()) {
+            return findCounters(blogId).map(current -> {
+                current.setAppliedDeltas(Map.of());
+                return current;
+            });
+        }
+        return incrementCounters(blogId, increments);
+    }
+
+    @Override
+    public Optional<BlogPostCounters> findCounters(String blogId) {
+        return Optional.ofNullable(mongoTemplate.findOne(counterQuery(blogId), BlogPostCounters.class, COLLECTION));
+    }
+
+    private Query counterQuery(String blogId) {
+        Query query = new Query(Criteria.where("_id").is(blogId));
+        query.fields().include(VIEWS, LIKES, DISLIKES, COMMENTS);
+        return query;
+    }
+}
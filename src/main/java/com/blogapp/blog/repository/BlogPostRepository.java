@@ -1,6 +1,7 @@
 package com.blogapp.blog.repository;
 
 import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.BlogPostSummary;
 import com.blogapp.blog.enums.BlogStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,7 +13,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BlogPostRepository extends MongoRepository<BlogPost, String> {
+public interface BlogPostRepository extends MongoRepository<BlogPost, String>, BlogPostCounterRepository {
 
     Optional<BlogPost> findBySlug(String slug);
 
@@ -46,5 +47,6 @@ public interface BlogPostRepository extends MongoRepository<BlogPost, String> {
     List<BlogPost> findByAuthorEmail(String authorEmail);
 
     // Find published blogs where notification email hasn't been sent yet
-    List<BlogPost> findByStatusAndEmailSent(BlogStatus status, boolean emailSent);
+    // (summary projection — bodies are not loaded)
+    List<BlogPostSummary> findByStatusAndEmailSent(BlogStatus status, boolean emailSent);
 }
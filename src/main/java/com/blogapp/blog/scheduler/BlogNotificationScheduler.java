@@ -1,6 +1,7 @@
 package com.blogapp.blog.scheduler;
 
 import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.BlogPostSummary;
 import com.blogapp.blog.enums.BlogStatus;
 import com.blogapp.blog.repository.BlogPostRepository;
 import com.blogapp.otp.service.EmailService;
@@ -10,6 +11,10 @@ import com.blogapp.subscriber.repository.SubscriberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +28,7 @@ public class BlogNotificationScheduler {
     private final BlogPostRepository blogPostRepository;
     private final SubscriberRepository subscriberRepository;
     private final EmailService emailService;
+    private final MongoTemplate mongoTemplate;
 
     @Value("${blog.frontend.url:http://localhost:5173}")
     private String frontendUrl;
@@ -45,7 +51,7 @@ public class BlogNotificationScheduler {
         log.info("⏰ Blog notification scheduler started...");
 
         // 1. Find published blogs that haven't been notified yet
-        List<BlogPost> unnotifiedBlogs = blogPostRepository
+        List<BlogPostSummary> unnotifiedBlogs = blogPostRepository
                 .findByStatusAndEmailSent(BlogStatus.PUBLISHED, false);
 
         if (unnotifiedBlogs.isEmpty()) {
@@ -102,10 +108,15 @@ public class BlogNotificationScheduler {
         log.info("✅ Blog notification scheduler completed. {} blog(s) marked as notified.", unnotifiedBlogs.size());
     }
 
-    private void markBlogsAsEmailSent(List<BlogPost> blogs) {
-        for (BlogPost blog : blogs) {
-            blog.setEmailSent(true);
-            blogPostRepository.save(blog);
-        }
+    /**
+     * Flip the flag with a single targeted update — the summaries we hold are
+     * partial documents and must never be saved back.
+     */
+    private void markBlogsAsEmailSent(List<BlogPostSummary> blogs) {
+        List<String> ids = blogs.stream().map(BlogPostSummary::getId).toList();
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("id").in(ids)),
+                Update.update("emailSent", true),
+                BlogPost.class);
     }
 }
@@ -0,0 +1,40 @@
+package com.blogapp.blog.scheduler;
+
+import com.blogapp.blog.service.BlogContentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes blog_contents bodies left behind by edits. A body is only removed
+ * once no post refers to it and it has not been stored again within the
+ * grace period, so a post being saved never loses its new body.
+ */
+@Slf4j
+@Component
+public class OrphanedContentSweeper {
+
+    private final BlogContentService blogContentService;
+    private final long graceMinutes;
+
+    public OrphanedContentSweeper(BlogContentService blogContentService,
+            @Value("${blog.contents.sweep-grace-minutes:60}") long graceMinutes) {
+        this.blogContentService = blogContentService;
+        this.graceMinutes = graceMinutes;
+    }
+
+    @Scheduled(cron = "${blog.contents.sweep-cron:0 30 3 * * *}")
+    public void sweep() {
+        try {
+            long deleted = blogContentService.deleteUnreferenced(LocalDateTime.now().minusMinutes(graceMinutes));
+            if (deleted > 0) {
+                log.info("Deleted {} unreferenced blog bodies", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Orphaned content sweep failed, retrying next run: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.blogapp.blog.service;
+
+import com.blogapp.blog.entity.BlogContent;
+import com.blogapp.blog.entity.BlogPost;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface BlogContentService {
+
+    /**
+     * Store a body in blog_contents (only touched if an identical body
+     * exists) and return its content id.
+     */
+    String store(String html, String json);
+
+    /**
+     * Delete bodies no post refers to that were last stored before the given
+     * time, and return how many were deleted.
+     */
+    long deleteUnreferenced(LocalDateTime storedBefore);
+
+    Optional<BlogContent> findById(String contentId);
+
+    /**
+     * The first {@code codePoints} code points of a body's HTML, cut in the
+     * database so the rest is never transferred.
+     */
+    Optional<String> findFreePart(String contentId, int codePoints);
+
+    /**
+     * Bulk lookup keyed by content id; unknown ids are simply absent.
+     */
+    Map<String, BlogContent> findAllById(Collection<String> contentIds);
+
+    /**
+     * Prepare a post for saving: if it carries an in-memory body, store it
+     * and point contentId at it, then recompute the premium split offset from
+     * the current body and rating.
+     */
+    void applyContent(BlogPost blog);
+
+    /**
+     * Load the body of a post into its transient contentHtml/contentJson if
+     * it is not there already.
+     */
+    BlogPost resolveContent(BlogPost blog);
+}
@@ -7,20 +7,35 @@ import com.blogapp.blog.dto.response.BlogSummaryResponse;
 import com.blogapp.blog.entity.BlogPost;
 import com.blogapp.common.dto.PageResponse;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface BlogService {
 
     PageResponse<BlogSummaryResponse> getPublishedBlogs(String search, Integer year, Integer month,
             String sectionId, String subsectionId,
-            String sort, int page, int size);
-
-    BlogDetailResponse getBlogBySlug(String slug);
+            String sort, int page, int size, String cursor, boolean includeTotal, String userId);
+
+    /**
+     * Published blog by slug as seen by the given reader (null if anonymous).
+     * Premium content past part 1 is only loaded for entitled readers;
+     * hasEntitlement is set on the response.
+     */
+    BlogDetailResponse getBlogBySlug(String slug, String userId);
+
+    /**
+     * Version of what getBlogBySlug would return to this reader, for
+     * conditional requests — served from the detail cache, so a hit needs no
+     * database read.
+     */
+    DetailVersion getBlogDetailVersion(String slug, String userId);
 
     BlogDetailResponse getBlogById(String id);
 
     List<ArchiveResponse> getArchive();
 
+    List<ArchiveResponse> getArchive(String sectionId);
+
     BlogPost createBlog(CreateBlogRequest request, String authorName, String authorEmail, String authorMobile);
 
     BlogPost approveBlog(String id, String adminId, Integer internalRating, String sectionId, String subsectionId);
@@ -34,4 +49,14 @@ public interface BlogService {
     PageResponse<BlogDetailResponse> getAdminBlogs(String status, int page, int size);
 
     void incrementViewCount(String id);
+
+    /**
+     * Count one view for each id (view beacon). Ids that don't belong to a
+     * published post are ignored, as are repeat views by the same visitor
+     * (visitorKey, or the IP address without one) within the dedup window.
+     */
+    void recordViews(List<String> blogIds, String visitorKey, String ipAddress);
+
+    record DetailVersion(String blogId, String sectionId, String version, Instant lastModified) {
+    }
 }
@@ -0,0 +1,173 @@
+package com.blogapp.blog.service.impl;
+
+import com.blogapp.blog.entity.BlogContent;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.repository.BlogContentRepository;
+import com.blogapp.blog.service.BlogContentService;
+import com.blogapp.common.util.ContentSplitter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlogContentServiceImpl implements BlogContentService {
+
+    private final BlogContentRepository blogContentRepository;
+    private final MongoTemplate mongoTemplate;
+
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    @Override
+    public String store(String html, String json) {
+        String contentId = hash(html, json);
+        LocalDateTime now = LocalDateTime.now();
+        // Touching an existing body keeps the orphan sweep off it until the
+        // post referring to it has been saved
+        boolean exists = mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(contentId)),
+                new Update().set("storedAt", now), BlogContent.class).getMatchedCount() > 0;
+        if (!exists) {
+            try {
+                blogContentRepository.insert(BlogContent.builder()
+                        .id(contentId)
+                        .html(html)
+                        .json(json)
+                        .storedAt(now)
+                        .build());
+            } catch (DuplicateKeyException e) {
+                // Stored concurrently by another writer — same content, nothing to do
+            }
+        }
+        return contentId;
+    }
+
+    @Override
+    public long deleteUnreferenced(LocalDateTime storedBefore) {
+        Criteria stale = new Criteria().orOperator(
+                Criteria.where("storedAt").lt(storedBefore),
+                Criteria.where("storedAt").exists(false));
+        Query candidates = new Query(stale);
+        candidates.fields().include("_id");
+
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(SWEEP_BATCH_SIZE);
+        try (Stream<BlogContent> contents = mongoTemplate.stream(candidates, BlogContent.class)) {
+            Iterator<BlogContent> it = contents.iterator();
+            while (it.hasNext()) {
+                batch.add(it.next().getId());
+                if (batch.size() == SWEEP_BATCH_SIZE || !it.hasNext()) {
+                    deleted += deleteUnreferenced(batch, stale);
+                    batch.clear();
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private long deleteUnreferenced(List<String> contentIds, Criteria stale) {
+        Set<String> referenced = new HashSet<>(mongoTemplate.findDistinct(
+                new Query(Criteria.where("contentId").in(contentIds)), "contentId", BlogPost.class, String.class));
+        List<String> orphans = contentIds.stream().filter(id -> !referenced.contains(id)).toList();
+        if (orphans.isEmpty())
+            return 0;
+        // Re-check staleness so a body stored again since the scan is kept
+        return mongoTemplate.remove(new Query(new Criteria().andOperator(
+                Criteria.where("_id").in(orphans), stale)), BlogContent.class).getDeletedCount();
+    }
+
+    @Override
+    public Optional<BlogContent> findById(String contentId) {
+        if (contentId == null)
+            return Optional.empty();
+        return blogContentRepository.findById(contentId);
+    }
+
+    @Override
+    public Optional<String> findFreePart(String contentId, int codePoints) {
+        if (contentId == null)
+            return Optional.empty();
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("_id").is(contentId)),
+                Aggregation.project()
+                        .and(StringOperators.valueOf("html").substringCP(0, codePoints)).as("html"));
+
+        BlogContent prefix = mongoTemplate.aggregate(aggregation, BlogContent.class, BlogContent.class)
+                .getUniqueMappedResult();
+        return Optional.ofNullable(prefix).map(BlogContent::getHtml);
+    }
+
+    @Override
+    public Map<String, BlogContent> findAllById(Collection<String> contentIds) {
+        return blogContentRepository.findAllById(contentIds).stream()
+                .collect(Collectors.toMap(BlogContent::getId, Function.identity()));
+    }
+
+    @Override
+    public void applyContent(BlogPost blog) {
+        if (blog.getContentHtml() != null) {
+            blog.setContentId(store(blog.getContentHtml(), blog.getContentJson()));
+        }
+
+        boolean isPremium = blog.getInternalRating() != null && blog.getInternalRating() > 6;
+        if (isPremium) {
+            resolveContent(blog);
+            blog.setPremiumSplitOffset(ContentSplitter.splitOffset(blog.getContentHtml()));
+        } else {
+            // Remove premium gating
+            blog.setPremiumSplitOffset(null);
+        }
+    }
+
+    @Override
+    public BlogPost resolveContent(BlogPost blog) {
+        if (blog.getContentHtml() == null) {
+            findById(blog.getContentId()).ifPresent(content -> {
+                blog.setContentHtml(content.getHtml());
+                blog.setContentJson(content.getJson());
+            });
+        }
+        return blog;
+    }
+
+    private String hash(String html, String json) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(nullToEmpty(html).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(nullToEmpty(json).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
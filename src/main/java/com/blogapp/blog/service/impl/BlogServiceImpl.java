@@ -1,40 +1,63 @@
 package com.blogapp.blog.service.impl;
 
+import com.blogapp.analytics.service.AnalyticsService;
 import com.blogapp.blog.dto.request.CreateBlogRequest;
 import com.blogapp.blog.dto.response.ArchiveResponse;
 import com.blogapp.blog.dto.response.BlogDetailResponse;
 import com.blogapp.blog.dto.response.BlogSummaryResponse;
+import com.blogapp.blog.cache.ArchiveIndex;
+import com.blogapp.blog.cache.BlogDetailCache;
+import com.blogapp.blog.cache.ListingCountCache;
+import com.blogapp.blog.cache.PublishedSlugIndex;
+import com.blogapp.blog.counter.BlogCounterCache;
+import com.blogapp.blog.counter.ViewCountBuffer;
+import com.blogapp.blog.counter.ViewDeduplicator;
 import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.event.BlogPostChangedEvent;
+import com.blogapp.blog.entity.BlogPostSummary;
 import com.blogapp.blog.enums.BlogStatus;
 import com.blogapp.blog.mapper.BlogMapper;
 import com.blogapp.blog.repository.BlogPostRepository;
+import com.blogapp.blog.service.BlogContentService;
 import com.blogapp.blog.service.BlogService;
+import com.blogapp.common.concurrent.SingleFlight;
 import com.blogapp.common.dto.PageResponse;
-import com.blogapp.common.util.ContentSplitter;
+import com.blogapp.common.util.CursorUtil;
 import com.blogapp.common.exception.BadRequestException;
 import com.blogapp.common.exception.ResourceNotFoundException;
+import com.blogapp.common.http.ResourceVersions;
+import com.blogapp.common.http.SurrogateKeys;
 import com.blogapp.common.util.HtmlSanitizer;
 import com.blogapp.common.util.SlugUtil;
-import com.blogapp.section.entity.Section;
-import com.blogapp.section.entity.Subsection;
-import com.blogapp.section.repository.SectionRepository;
-import com.blogapp.section.repository.SubsectionRepository;
+import com.blogapp.engagement.enums.EngagementMetric;
+import com.blogapp.engagement.recorder.EngagementRecorder;
+import com.blogapp.entitlement.service.EntitlementService;
+import com.blogapp.search.service.BlogSearchService;
+import com.blogapp.section.cache.TaxonomyCache;
+import com.blogapp.section.cache.TaxonomySnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,59 +65,53 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BlogServiceImpl implements BlogService {
 
+    private static final String SORT_RELEVANCE = "relevance";
+    private static final SortKey SORT_RECENT = new SortKey("recent", "publishedAt", Sort.Direction.DESC);
+    private static final SortKey SORT_POPULAR = new SortKey("popular", "likesCount", Sort.Direction.DESC);
+    private static final SortKey SORT_OLDEST = new SortKey("oldest", "publishedAt", Sort.Direction.ASC);
+    private static final SortKey SORT_MOST_COMMENTED = new SortKey("most_commented", "commentsCount",
+            Sort.Direction.DESC);
+
     private final BlogPostRepository blogPostRepository;
     private final BlogMapper blogMapper;
     private final MongoTemplate mongoTemplate;
-    private final SectionRepository sectionRepository;
-    private final SubsectionRepository subsectionRepository;
+    private final TaxonomyCache taxonomyCache;
+    private final BlogSearchService blogSearchService;
+    private final ListingCountCache listingCountCache;
+    private final BlogContentService blogContentService;
+    private final EntitlementService entitlementService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewDeduplicator viewDeduplicator;
+    private final AnalyticsService analyticsService;
+    private final EngagementRecorder engagementRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchiveIndex archiveIndex;
+    private final BlogDetailCache blogDetailCache;
+    private final BlogCounterCache blogCounterCache;
+    private final SingleFlight singleFlight;
+    private final PublishedSlugIndex publishedSlugIndex;
+    private final ResourceVersions resourceVersions;
 
     // ===================== Section resolution helpers =====================
 
     /**
-     * Bulk-load sections/subsections referenced by a list of blog posts
-     * and return resolved summary responses.
+     * Resolve sections/subsections referenced by a list of blog posts from the
+     * taxonomy snapshot and return summary responses.
      */
-    private List<BlogSummaryResponse> mapToSummaryResponses(List<BlogPost> blogs) {
-        Map<String, Section> sectionCache = loadSections(blogs);
-        Map<String, Subsection> subsectionCache = loadSubsections(blogs);
-
+    private List<BlogSummaryResponse> mapToSummaryResponses(List<BlogPostSummary> blogs) {
+        TaxonomySnapshot taxonomy = taxonomyCache.snapshot();
         return blogs.stream()
                 .map(blog -> blogMapper.toSummaryResponse(
                         blog,
-                        sectionCache.get(blog.getSectionId()),
-                        subsectionCache.get(blog.getSubsectionId())))
+                        taxonomy.section(blog.getSectionId()),
+                        taxonomy.subsection(blog.getSubsectionId())))
                 .collect(Collectors.toList());
     }
 
     private BlogDetailResponse mapToDetailResponse(BlogPost blog) {
-        Section section = blog.getSectionId() != null ? sectionRepository.findById(blog.getSectionId()).orElse(null)
-                : null;
-        Subsection subsection = blog.getSubsectionId() != null
-                ? subsectionRepository.findById(blog.getSubsectionId()).orElse(null)
-                : null;
-        return blogMapper.toDetailResponse(blog, section, subsection);
-    }
-
-    private Map<String, Section> loadSections(List<BlogPost> blogs) {
-        Set<String> ids = blogs.stream()
-                .map(BlogPost::getSectionId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        if (ids.isEmpty())
-            return Collections.emptyMap();
-        return sectionRepository.findAllById(ids).stream()
-                .collect(Collectors.toMap(Section::getId, Function.identity()));
-    }
-
-    private Map<String, Subsection> loadSubsections(List<BlogPost> blogs) {
-        Set<String> ids = blogs.stream()
-                .map(BlogPost::getSubsectionId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        if (ids.isEmpty())
-            return Collections.emptyMap();
-        return subsectionRepository.findAllById(ids).stream()
-                .collect(Collectors.toMap(Subsection::getId, Function.identity()));
+        TaxonomySnapshot taxonomy = taxonomyCache.snapshot();
+        return blogMapper.toDetailResponse(blog, taxonomy.section(blog.getSectionId()),
+                taxonomy.subsection(blog.getSubsectionId()));
     }
 
     // ===================== Public endpoints =====================
@@ -102,9 +119,32 @@ public class BlogServiceImpl implements BlogService {
     @Override
     public PageResponse<BlogSummaryResponse> getPublishedBlogs(String search, Integer year, Integer month,
             String sectionId, String subsectionId,
-            String sort, int page, int size) {
-        Sort sortOrder = resolveSort(sort);
-        Pageable pageable = PageRequest.of(page, size, sortOrder);
+            String sort, int page, int size, String cursor, boolean includeTotal, String userId) {
+        PageResponse<BlogSummaryResponse> response = listPublishedBlogs(search, year, month, sectionId, subsectionId,
+                sort, page, size, cursor, includeTotal);
+        if (userId != null) {
+            markAccessible(response.getContent(), userId);
+        }
+        return response;
+    }
+
+    /**
+     * Set the accessible flag on a page of summaries with a single
+     * entitlement lookup.
+     */
+    private void markAccessible(List<BlogSummaryResponse> blogs, String userId) {
+        Map<String, Boolean> access = entitlementService.hasAccess(userId, blogs.stream()
+                .filter(BlogSummaryResponse::isPremium)
+                .map(blog -> new EntitlementService.BlogRef(blog.getId(), blog.getSectionId(),
+                        blog.getSubsectionId()))
+                .toList());
+        blogs.forEach(blog -> blog.setAccessible(!blog.isPremium() || access.getOrDefault(blog.getId(), false)));
+    }
+
+    private PageResponse<BlogSummaryResponse> listPublishedBlogs(String search, Integer year, Integer month,
+            String sectionId, String subsectionId,
+            String sort, int page, int size, String cursor, boolean includeTotal) {
+        SortKey sortKey = resolveSortKey(sort);
 
         // Build dynamic criteria
         Criteria criteria = Criteria.where("status").is(BlogStatus.PUBLISHED.name());
@@ -122,18 +162,183 @@ public class BlogServiceImpl implements BlogService {
             criteria = criteria.and("month").is(month);
         }
         if (search != null && !search.isBlank()) {
-            criteria = criteria.orOperator(
-                    Criteria.where("title").regex(search, "i"),
-                    Criteria.where("excerpt").regex(search, "i"),
-                    Criteria.where("tags").regex(search, "i"));
+            // Full-text matching is served by the in-memory index; Mongo only
+            // sees an _id lookup
+            List<String> rankedIds = blogSearchService.search(search,
+                    new BlogSearchService.Filter(sectionId, subsectionId, year, month));
+            if (rankedIds.isEmpty()) {
+                return buildPage(Collections.emptyList(), page, size, 0);
+            }
+            if (SORT_RELEVANCE.equalsIgnoreCase(sort)) {
+                return getRankedPage(rankedIds, page, size, cursor);
+            }
+            criteria = criteria.and("id").in(rankedIds);
+        }
+
+        if (cursor != null) {
+            return getKeysetPage(criteria, sortKey, size, cursor);
+        }
+
+        Query query = new Query(criteria).with(PageRequest.of(page, size, sortKey.toSort()));
+        if (!includeTotal) {
+            return getProbedPage(query, sortKey, page, size);
+        }
+
+        // Kick off the (possibly cached) count first so it overlaps the page fetch.
+        // The extra row lets the page be served without a total if the count
+        // is too slow.
+        CompletableFuture<Long> total = listingCountCache.count(criteria);
+        List<BlogPostSummary> blogs = findSummaries(query.limit(size + 1));
+        Long count = awaitCount(total);
+        if (count == null) {
+            return toProbedPage(blogs, sortKey, page, size);
+        }
+        if (blogs.size() > size) {
+            blogs = blogs.subList(0, size);
+        }
+
+        PageResponse<BlogSummaryResponse> response = buildPage(mapToSummaryResponses(blogs), page, size,
+                count);
+        if (!response.isLast() && !blogs.isEmpty()) {
+            // Lets infinite-scroll clients switch to keyset mode from any page
+            response.setNextCursor(sortKey.cursorAfter(blogs.get(blogs.size() - 1)));
+        }
+        return response;
+    }
+
+    /**
+     * Page-number page without a total: fetch one extra row to decide whether
+     * this is the last page.
+     */
+    private PageResponse<BlogSummaryResponse> getProbedPage(Query query, SortKey sortKey, int page, int size) {
+        return toProbedPage(findSummaries(query.limit(size + 1)), sortKey, page, size);
+    }
+
+    private PageResponse<BlogSummaryResponse> toProbedPage(List<BlogPostSummary> blogs, SortKey sortKey,
+            int page, int size) {
+        boolean hasNext = blogs.size() > size;
+        if (hasNext) {
+            blogs = blogs.subList(0, size);
+        }
+
+        return PageResponse.<BlogSummaryResponse>builder()
+                .content(mapToSummaryResponses(blogs))
+                .page(page)
+                .size(size)
+                .first(page == 0)
+                .last(!hasNext)
+                .nextCursor(hasNext ? sortKey.cursorAfter(blogs.get(blogs.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * Listing reads go through the summary projection, so post bodies are
+     * never fetched. The query is still mapped against BlogPost so ObjectId
+     * conversions on sectionId/subsectionId apply. Identical page queries
+     * running at the same time share one result, which callers must not
+     * modify.
+     */
+    private List<BlogPostSummary> findSummaries(Query query) {
+        String key = query.getQueryObject().toJson() + query.getSortObject().toJson()
+                + "|" + query.getSkip() + "|" + query.getLimit();
+        return singleFlight.execute("blog.listing", key, () -> mongoTemplate.query(BlogPost.class)
+                .as(BlogPostSummary.class)
+                .matching(query)
+                .all());
+    }
+
+    /**
+     * The listing total, or null when the count timed out or could not be
+     * queued — the page is then served without one.
+     */
+    private Long awaitCount(CompletableFuture<Long> total) {
+        try {
+            return total.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException || e.getCause() instanceof RejectedExecutionException) {
+                log.warn("Listing count unavailable, serving page without a total: {}", e.getCause().toString());
+                return null;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Keyset (cursor) page: resume strictly after the last row of the previous
+     * page with a range query on (sort field, _id), so the cost of a page does
+     * not grow with its depth. No total is computed; one extra row is fetched
+     * to know whether another page exists.
+     */
+    private PageResponse<BlogSummaryResponse> getKeysetPage(Criteria criteria, SortKey sortKey, int size,
+            String cursor) {
+        boolean first = cursor.isBlank();
+        Criteria pageCriteria = first ? criteria : new Criteria().andOperator(criteria, sortKey.after(cursor));
+
+        Query query = new Query(pageCriteria).with(sortKey.toSort()).limit(size + 1);
+        List<BlogPostSummary> blogs = findSummaries(query);
+
+        boolean hasNext = blogs.size() > size;
+        if (hasNext) {
+            blogs = blogs.subList(0, size);
+        }
+
+        return PageResponse.<BlogSummaryResponse>builder()
+                .content(mapToSummaryResponses(blogs))
+                .size(size)
+                .first(first)
+                .last(!hasNext)
+                .nextCursor(hasNext ? sortKey.cursorAfter(blogs.get(blogs.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * Serve a page in BM25 order: slice the ranked ids, load just that slice
+     * and restore the ranking (Mongo returns $in matches in natural order).
+     * In cursor mode the cursor simply carries the next offset into the
+     * ranking, which lives in memory anyway.
+     */
+    private PageResponse<BlogSummaryResponse> getRankedPage(List<String> rankedIds, int page, int size,
+            String cursor) {
+        int offset = cursor != null ? 0 : page * size;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = CursorUtil.decode(cursor, 2);
+            if (!SORT_RELEVANCE.equals(parts[0])) {
+                throw new BadRequestException("Cursor does not match sort order: " + SORT_RELEVANCE);
+            }
+            try {
+                offset = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
         }
 
-        Query query = new Query(criteria).with(pageable);
-        List<BlogPost> blogs = mongoTemplate.find(query, BlogPost.class);
-        long total = mongoTemplate.count(new Query(criteria), BlogPost.class);
+        int from = Math.min(Math.max(offset, 0), rankedIds.size());
+        int to = Math.min(from + size, rankedIds.size());
+        List<String> pageIds = rankedIds.subList(from, to);
 
-        List<BlogSummaryResponse> content = mapToSummaryResponses(blogs);
+        Map<String, Integer> rank = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++) {
+            rank.put(pageIds.get(i), i);
+        }
 
+        Query query = new Query(Criteria.where("id").in(pageIds)
+                .and("status").is(BlogStatus.PUBLISHED.name()));
+        List<BlogPostSummary> blogs = new ArrayList<>(findSummaries(query));
+        blogs.sort(Comparator.comparingInt(blog -> rank.getOrDefault(blog.getId(), Integer.MAX_VALUE)));
+
+        PageResponse<BlogSummaryResponse> response = buildPage(mapToSummaryResponses(blogs), from / size, size,
+                rankedIds.size());
+        if (to < rankedIds.size()) {
+            response.setNextCursor(CursorUtil.encode(SORT_RELEVANCE, String.valueOf(to)));
+        }
+        return response;
+    }
+
+    private PageResponse<BlogSummaryResponse> buildPage(List<BlogSummaryResponse> content, int page, int size,
+            long total) {
         return PageResponse.<BlogSummaryResponse>builder()
                 .content(content)
                 .page(page)
@@ -146,22 +351,101 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    public BlogDetailResponse getBlogBySlug(String slug) {
+    public BlogDetailResponse getBlogBySlug(String slug, String userId) {
+        BlogDetailCache.Entry free = getFreeDetail(slug);
+        boolean hasEntitlement = hasEntitlement(free.response(), userId);
+        BlogDetailResponse response = free.response().isPremium() && hasEntitlement
+                ? blogDetailCache.get(slug, BlogDetailCache.Variant.FULL, () -> loadPublishedDetail(slug, true))
+                        .response()
+                : free.response();
+        response.setHasEntitlement(hasEntitlement);
+
+        // Cached bodies carry stale counters; overlay the live ones
+        blogCounterCache.get(response.getId()).ifPresent(counters -> {
+            response.setViewsCount(counters.getViewsCount());
+            response.setLikesCount(counters.getLikesCount());
+            response.setDislikesCount(counters.getDislikesCount());
+            response.setCommentsCount(counters.getCommentsCount());
+        });
+        return response;
+    }
+
+    @Override
+    public DetailVersion getBlogDetailVersion(String slug, String userId) {
+        BlogDetailCache.Entry free = getFreeDetail(slug);
+        BlogDetailResponse response = free.response();
+        boolean hasEntitlement = hasEntitlement(response, userId);
+
+        // Views change on every read, so only reactions and comments are part of the version
+        String counters = blogCounterCache.get(response.getId())
+                .map(c -> c.getLikesCount() + "/" + c.getDislikesCount() + "/" + c.getCommentsCount())
+                .orElse("");
+        // Section and subsection names are rendered into the post, so renames change it too
+        ResourceVersions.Version taxonomy = resourceVersions.current(SurrogateKeys.SECTIONS);
+        String version = free.version() + ":" + taxonomy.tag() + ":" + (hasEntitlement ? "full" : "free")
+                + ":" + counters;
+        Instant lastModified = free.lastModified().isAfter(taxonomy.lastModified())
+                ? free.lastModified()
+                : taxonomy.lastModified();
+        return new DetailVersion(response.getId(), response.getSectionId(), version, lastModified);
+    }
+
+    /**
+     * The free variant is enough to decide on the paywall — and is the whole
+     * post when not premium.
+     */
+    private BlogDetailCache.Entry getFreeDetail(String slug) {
+        // Unknown slugs (crawlers, broken links) are turned away without a database read
+        if (!publishedSlugIndex.mightBePublished(slug)) {
+            throw ResourceNotFoundException.withoutStackTrace("Blog", "slug", slug);
+        }
+        return blogDetailCache.get(slug, BlogDetailCache.Variant.FREE, () -> loadPublishedDetail(slug, false));
+    }
+
+    private boolean hasEntitlement(BlogDetailResponse response, String userId) {
+        return !response.isPremium() || entitlementService.hasAccess(
+                userId, response.getId(), response.getSectionId(), response.getSubsectionId());
+    }
+
+    /**
+     * Render a published post for the detail cache. Unless {@code fullContent}
+     * is set, a premium post is rendered with part 1 only and part 2 and the
+     * JSON are never loaded.
+     */
+    private BlogDetailCache.Entry loadPublishedDetail(String slug, boolean fullContent) {
         BlogPost blog = blogPostRepository.findBySlug(slug)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog", "slug", slug));
+                .orElseThrow(() -> ResourceNotFoundException.withoutStackTrace("Blog", "slug", slug));
 
         if (blog.getStatus() != BlogStatus.PUBLISHED) {
-            throw new ResourceNotFoundException("Blog", "slug", slug);
+            throw ResourceNotFoundException.withoutStackTrace("Blog", "slug", slug);
+        }
+
+        boolean isPremium = blog.getInternalRating() != null && blog.getInternalRating() > 6;
+        if (fullContent || !isPremium) {
+            blogContentService.resolveContent(blog);
+        } else if (blog.getPremiumSplitOffset() != null) {
+            blogContentService.findFreePart(blog.getContentId(), blog.getPremiumSplitOffset())
+                    .ifPresent(blog::setContentHtml);
+        }
+
+        BlogDetailResponse response = mapToDetailResponse(blog);
+        if (isPremium && !fullContent) {
+            response.setContentPart2Html(null);
         }
 
-        return mapToDetailResponse(blog);
+        LocalDateTime modified = blog.getUpdatedAt() != null ? blog.getUpdatedAt() : blog.getCreatedAt();
+        Instant lastModified = modified != null
+                ? modified.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS)
+                : Instant.EPOCH;
+        return new BlogDetailCache.Entry(response, blog.getContentId() + ":" + lastModified.getEpochSecond(),
+                lastModified);
     }
 
     @Override
     public BlogDetailResponse getBlogById(String id) {
         BlogPost blog = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
-        return mapToDetailResponse(blog);
+        return mapToDetailResponse(blogContentService.resolveContent(blog));
     }
 
     @Override
@@ -170,51 +454,12 @@ public class BlogServiceImpl implements BlogService {
     }
 
     /**
-     * Get archive scoped to an optional sectionId.
+     * Get archive scoped to an optional sectionId — served from the
+     * in-memory archive index.
      */
+    @Override
     public List<ArchiveResponse> getArchive(String sectionId) {
-        List<Criteria> criteriaList = new ArrayList<>();
-        criteriaList.add(Criteria.where("status").is(BlogStatus.PUBLISHED.name()));
-        if (sectionId != null && !sectionId.isBlank()) {
-            criteriaList.add(Criteria.where("sectionId").is(sectionId));
-        }
-
-        Aggregation aggregation = Aggregation.newAggregation(
-                Aggregation.match(new Criteria().andOperator(criteriaList.toArray(new Criteria[0]))),
-                Aggregation.group("year", "month").count().as("count"),
-                Aggregation.sort(Sort.Direction.DESC, "_id.year", "_id.month"));
-
-        AggregationResults<org.bson.Document> results = mongoTemplate.aggregate(
-                aggregation, "blog_posts", org.bson.Document.class);
-
-        Map<Integer, List<ArchiveResponse.MonthCount>> yearMap = new TreeMap<>(Comparator.reverseOrder());
-
-        for (org.bson.Document doc : results.getMappedResults()) {
-            org.bson.Document idDoc = doc.get("_id", org.bson.Document.class);
-            if (idDoc == null)
-                continue;
-
-            Integer year = idDoc.getInteger("year");
-            Integer month = idDoc.getInteger("month");
-            long count = doc.getInteger("count", 0);
-
-            if (year != null && month != null) {
-                yearMap.computeIfAbsent(year, k -> new ArrayList<>())
-                        .add(ArchiveResponse.MonthCount.builder()
-                                .month(month)
-                                .count(count)
-                                .build());
-            }
-        }
-
-        return yearMap.entrySet().stream()
-                .map(entry -> ArchiveResponse.builder()
-                        .year(entry.getKey())
-                        .months(entry.getValue().stream()
-                                .sorted(Comparator.comparingInt(ArchiveResponse.MonthCount::getMonth).reversed())
-                                .collect(Collectors.toList()))
-                        .build())
-                .collect(Collectors.toList());
+        return archiveIndex.getArchive(sectionId);
     }
 
     // ===================== Blog write operations =====================
@@ -244,9 +489,12 @@ public class BlogServiceImpl implements BlogService {
             slug = baseSlug + "-" + counter++;
         }
         blog.setSlug(slug);
+        blogContentService.applyContent(blog);
 
         log.info("Creating blog post with slug: {} by author: {}", slug, authorEmail);
-        return blogPostRepository.save(blog);
+        BlogPost saved = blogPostRepository.save(blog);
+        eventPublisher.publishEvent(BlogPostChangedEvent.of(null, saved));
+        return saved;
     }
 
     @Override
@@ -254,6 +502,7 @@ public class BlogServiceImpl implements BlogService {
             String subsectionId) {
         BlogPost blog = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
+        BlogPostChangedEvent.State before = BlogPostChangedEvent.State.of(blog);
 
         if (blog.getStatus() != BlogStatus.PENDING) {
             throw new BadRequestException("Only PENDING blogs can be approved. Current status: " + blog.getStatus());
@@ -280,21 +529,20 @@ public class BlogServiceImpl implements BlogService {
         }
 
         // Auto-split content for premium blogs (rating > 6)
-        if (blog.getInternalRating() != null && blog.getInternalRating() > 6
-                && blog.getContentHtml() != null) {
-            String[] parts = ContentSplitter.split(blog.getContentHtml());
-            blog.setContentPart1Html(parts[0]);
-            blog.setContentPart2Html(parts[1]);
-        }
+        blogContentService.applyContent(blog);
 
         log.info("Blog approved: {} by admin: {}, rating: {}", id, adminId, internalRating);
-        return blogPostRepository.save(blog);
+        BlogPost saved = blogPostRepository.save(blog);
+        blogSearchService.index(saved);
+        eventPublisher.publishEvent(BlogPostChangedEvent.of(before, saved));
+        return saved;
     }
 
     @Override
     public BlogPost rejectBlog(String id, String reason) {
         BlogPost blog = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
+        BlogPostChangedEvent.State before = BlogPostChangedEvent.State.of(blog);
 
         if (blog.getStatus() != BlogStatus.PENDING) {
             throw new BadRequestException("Only PENDING blogs can be rejected. Current status: " + blog.getStatus());
@@ -304,13 +552,16 @@ public class BlogServiceImpl implements BlogService {
         blog.setRejectionReason(reason);
 
         log.info("Blog rejected: {} — reason: {}", id, reason);
-        return blogPostRepository.save(blog);
+        BlogPost saved = blogPostRepository.save(blog);
+        eventPublisher.publishEvent(BlogPostChangedEvent.of(before, saved));
+        return saved;
     }
 
     @Override
     public BlogPost updateBlog(String id, CreateBlogRequest request) {
         BlogPost blog = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
+        BlogPostChangedEvent.State before = BlogPostChangedEvent.State.of(blog);
 
         blog.setTitle(request.getTitle());
         blog.setExcerpt(request.getExcerpt());
@@ -320,15 +571,20 @@ public class BlogServiceImpl implements BlogService {
         blog.setTags(request.getTags());
         blog.setSectionId(request.getSectionId());
         blog.setSubsectionId(request.getSubsectionId());
+        blogContentService.applyContent(blog);
 
         log.info("Blog updated: {}", id);
-        return blogPostRepository.save(blog);
+        BlogPost saved = blogPostRepository.save(blog);
+        blogSearchService.index(saved);
+        eventPublisher.publishEvent(BlogPostChangedEvent.of(before, saved));
+        return saved;
     }
 
     @Override
     public BlogPost updateBlogAsAdmin(String id, com.blogapp.admin.dto.request.AdminEditBlogRequest request) {
         BlogPost blog = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
+        BlogPostChangedEvent.State before = BlogPostChangedEvent.State.of(blog);
 
         blog.setTitle(request.getTitle());
         blog.setExcerpt(request.getExcerpt());
@@ -343,20 +599,14 @@ public class BlogServiceImpl implements BlogService {
             blog.setInternalRating(request.getInternalRating());
         }
 
-        // Re-calculate paywall content if premium
-        if (blog.getInternalRating() != null && blog.getInternalRating() > 6
-                && blog.getContentHtml() != null) {
-            String[] parts = ContentSplitter.split(blog.getContentHtml());
-            blog.setContentPart1Html(parts[0]);
-            blog.setContentPart2Html(parts[1]);
-        } else {
-            // Remove premium gating
-            blog.setContentPart1Html(null);
-            blog.setContentPart2Html(null);
-        }
+        // Store the new body and re-calculate the paywall split if premium
+        blogContentService.applyContent(blog);
 
         log.info("Blog updated by admin: {}, new rating: {}", id, blog.getInternalRating());
-        return blogPostRepository.save(blog);
+        BlogPost saved = blogPostRepository.save(blog);
+        blogSearchService.index(saved);
+        eventPublisher.publishEvent(BlogPostChangedEvent.of(before, saved));
+        return saved;
     }
 
     // ===================== Admin endpoints =====================
@@ -395,23 +645,106 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     public void incrementViewCount(String id) {
-        BlogPost blog = blogPostRepository.findById(id).orElse(null);
-        if (blog != null) {
-            blog.setViewsCount(blog.getViewsCount() + 1);
-            blogPostRepository.save(blog);
+        // Buffered and written in bulk — see ViewCountBuffer
+        if (viewCountBuffer.increment(id)) {
+            engagementRecorder.record(id, EngagementMetric.VIEWS, 1);
         }
     }
 
-    private Sort resolveSort(String sort) {
+    @Override
+    public void recordViews(List<String> blogIds, String visitorKey, String ipAddress) {
+        String visitor = visitorKey != null && !visitorKey.isBlank() ? visitorKey : ipAddress;
+        // Unknown ids would only take up buffer slots
+        List<String> published = blogIds.stream()
+                .filter(id -> id != null && publishedSlugIndex.mightBePublishedId(id))
+                .distinct()
+                .toList();
+        for (String id : published) {
+            // Unique-reader sketches are idempotent, so they see repeats too
+            analyticsService.recordVisit(id, visitor);
+            if (viewDeduplicator.firstView(visitor, id)) {
+                incrementViewCount(id);
+            }
+        }
+    }
+
+    private SortKey resolveSortKey(String sort) {
         if (sort == null || sort.isBlank() || sort.equalsIgnoreCase("recent")) {
-            return Sort.by(Sort.Direction.DESC, "publishedAt");
+            return SORT_RECENT;
         } else if (sort.equalsIgnoreCase("popular")) {
-            return Sort.by(Sort.Direction.DESC, "likesCount");
+            return SORT_POPULAR;
         } else if (sort.equalsIgnoreCase("oldest")) {
-            return Sort.by(Sort.Direction.ASC, "publishedAt");
+            return SORT_OLDEST;
         } else if (sort.equalsIgnoreCase("most_commented")) {
-            return Sort.by(Sort.Direction.DESC, "commentsCount");
+            return SORT_MOST_COMMENTED;
+        }
+        return SORT_RECENT;
+    }
+
+    /**
+     * A listing order: public sort name, the field it sorts on and the
+     * direction. _id breaks ties so that keyset cursors are unambiguous.
+     * A row without a value (a post published before publishedAt was set) is
+     * encoded as an empty value; MongoDB sorts such rows before all values,
+     * i.e. first ascending and last descending.
+     */
+    private record SortKey(String name, String field, Sort.Direction direction) {
+
+        private static final String NO_VALUE = "";
+
+        Sort toSort() {
+            return Sort.by(direction, field).and(Sort.by(direction, "_id"));
+        }
+
+        String cursorAfter(BlogPostSummary blog) {
+            Object value = switch (field) {
+                case "likesCount" -> blog.getLikesCount();
+                case "commentsCount" -> blog.getCommentsCount();
+                default -> blog.getPublishedAt();
+            };
+            return CursorUtil.encode(name, value != null ? value.toString() : NO_VALUE, blog.getId());
+        }
+
+        /**
+         * Rows strictly after the cursor position in this order.
+         */
+        Criteria after(String cursor) {
+            String[] parts = CursorUtil.decode(cursor, 3);
+            if (!name.equals(parts[0])) {
+                throw new BadRequestException("Cursor does not match sort order: " + name);
+            }
+            if (!ObjectId.isValid(parts[2])) {
+                throw new BadRequestException("Invalid cursor");
+            }
+
+            ObjectId id = new ObjectId(parts[2]);
+            if (NO_VALUE.equals(parts[1])) {
+                // Among the rows without a value; is(null) also matches a missing field
+                if (direction == Sort.Direction.DESC) {
+                    return Criteria.where(field).is(null).and("_id").lt(id);
+                }
+                return new Criteria().orOperator(
+                        Criteria.where(field).ne(null),
+                        Criteria.where(field).is(null).and("_id").gt(id));
+            }
+
+            Object value;
+            try {
+                value = "publishedAt".equals(field) ? LocalDateTime.parse(parts[1]) : Long.parseLong(parts[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+
+            if (direction == Sort.Direction.DESC) {
+                // Range operators never match null, so rows without a value are added explicitly
+                return new Criteria().orOperator(
+                        Criteria.where(field).lt(value),
+                        Criteria.where(field).is(value).and("_id").lt(id),
+                        Criteria.where(field).is(null));
+            }
+            return new Criteria().orOperator(
+                    Criteria.where(field).gt(value),
+                    Criteria.where(field).is(value).and("_id").gt(id));
         }
-        return Sort.by(Sort.Direction.DESC, "publishedAt");
     }
 }
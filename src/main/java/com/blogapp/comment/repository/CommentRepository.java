@@ -7,8 +7,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
-
 @Repository
 public interface CommentRepository extends MongoRepository<BlogComment, String> {
 
@@ -19,6 +17,4 @@ public interface CommentRepository extends MongoRepository<BlogComment, String>
     Page<BlogComment> findByStatus(CommentStatus status, Pageable pageable);
 
     long countByBlogIdAndStatus(String blogId, CommentStatus status);
-
-    long countByIpHashAndCreatedAtAfter(String ipHash, LocalDateTime after);
 }
@@ -1,6 +1,6 @@
 package com.blogapp.comment.service.impl;
 
-import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.repository.BlogPostCounterRepository;
 import com.blogapp.blog.repository.BlogPostRepository;
 import com.blogapp.comment.dto.request.CreateCommentRequest;
 import com.blogapp.comment.dto.response.CommentResponse;
@@ -13,6 +13,9 @@ import com.blogapp.common.dto.PageResponse;
 import com.blogapp.common.exception.BadRequestException;
 import com.blogapp.common.exception.RateLimitException;
 import com.blogapp.common.exception.ResourceNotFoundException;
+import com.blogapp.common.ratelimit.RateLimiter;
+import com.blogapp.engagement.enums.EngagementMetric;
+import com.blogapp.engagement.recorder.EngagementRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,9 +27,10 @@ import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,6 +41,8 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final BlogPostRepository blogPostRepository;
     private final CommentMapper commentMapper;
+    private final RateLimiter rateLimiter;
+    private final EngagementRecorder engagementRecorder;
 
     @Value("${blog.rate-limit.comments-per-minute:5}")
     private int commentsPerMinute;
@@ -65,8 +71,9 @@ public class CommentServiceImpl implements CommentService {
     @Override
     public CommentResponse addComment(String blogId, CreateCommentRequest request, String ipAddress) {
         // Verify blog exists and is published
-        BlogPost blog = blogPostRepository.findById(blogId)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", blogId));
+        if (!blogPostRepository.existsById(blogId)) {
+            throw new ResourceNotFoundException("Blog", "id", blogId);
+        }
 
         // Honeypot check — if the hidden "website" field is filled, it's a bot
         if (request.getWebsite() != null && !request.getWebsite().isBlank()) {
@@ -76,9 +83,7 @@ public class CommentServiceImpl implements CommentService {
 
         // Rate limit check
         String ipHash = hashIp(ipAddress);
-        long recentComments = commentRepository.countByIpHashAndCreatedAtAfter(
-                ipHash, LocalDateTime.now().minusMinutes(1));
-        if (recentComments >= commentsPerMinute) {
+        if (!rateLimiter.tryAcquire("comment:" + ipHash, commentsPerMinute, Duration.ofMinutes(1))) {
             throw new RateLimitException("Too many comments. Please wait before posting again.");
         }
 
@@ -86,8 +91,7 @@ public class CommentServiceImpl implements CommentService {
         comment = commentRepository.save(comment);
 
         // Increment comment count on blog
-        blog.setCommentsCount(blog.getCommentsCount() + 1);
-        blogPostRepository.save(blog);
+        adjustCommentsCount(blogId, 1);
 
         log.info("Comment added to blog {} by {}", blogId, request.getName());
         return commentMapper.toResponse(comment);
@@ -102,11 +106,7 @@ public class CommentServiceImpl implements CommentService {
         commentRepository.save(comment);
 
         // Decrement blog comment count
-        BlogPost blog = blogPostRepository.findById(comment.getBlogId()).orElse(null);
-        if (blog != null) {
-            blog.setCommentsCount(Math.max(0, blog.getCommentsCount() - 1));
-            blogPostRepository.save(blog);
-        }
+        adjustCommentsCount(comment.getBlogId(), -1);
 
         log.info("Comment hidden: {}", commentId);
     }
@@ -120,11 +120,7 @@ public class CommentServiceImpl implements CommentService {
         commentRepository.save(comment);
 
         // Increment blog comment count
-        BlogPost blog = blogPostRepository.findById(comment.getBlogId()).orElse(null);
-        if (blog != null) {
-            blog.setCommentsCount(blog.getCommentsCount() + 1);
-            blogPostRepository.save(blog);
-        }
+        adjustCommentsCount(comment.getBlogId(), 1);
 
         log.info("Comment unhidden: {}", commentId);
     }
@@ -138,11 +134,7 @@ public class CommentServiceImpl implements CommentService {
 
         // Decrement blog comment count
         if (comment.getStatus() == CommentStatus.VISIBLE) {
-            BlogPost blog = blogPostRepository.findById(comment.getBlogId()).orElse(null);
-            if (blog != null) {
-                blog.setCommentsCount(Math.max(0, blog.getCommentsCount() - 1));
-                blogPostRepository.save(blog);
-            }
+            adjustCommentsCount(comment.getBlogId(), -1);
         }
 
         log.info("Comment deleted: {}", commentId);
@@ -168,6 +160,12 @@ public class CommentServiceImpl implements CommentService {
                 .build();
     }
 
+    private void adjustCommentsCount(String blogId, int delta) {
+        blogPostRepository.incrementCounters(blogId, Map.of(BlogPostCounterRepository.COMMENTS, delta))
+                .ifPresent(counters -> engagementRecorder.record(blogId, EngagementMetric.COMMENTS,
+                        counters.getAppliedDeltas().getOrDefault(BlogPostCounterRepository.COMMENTS, 0)));
+    }
+
     private String hashIp(String ip) {
         if (ip == null)
             return null;
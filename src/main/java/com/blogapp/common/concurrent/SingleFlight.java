@@ -0,0 +1,113 @@
+package com.blogapp.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the
+ * loader, callers arriving while it is in flight wait for its result (or
+ * its exception) instead of running their own.
+ *
+ * Nothing is cached — once the load completes the next caller starts a new
+ * one. A waiter gives up after the configured timeout and runs the loader
+ * itself. Leaders, coalesced waiters, timeouts and wait time are published
+ * per flight name under "blog.singleflight".
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private record FlightKey(String name, Object key) {
+    }
+
+    private record Meters(Counter leaders, Counter coalesced, Counter timeouts, Timer waitTime) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final long waitTimeoutMillis;
+    private final ConcurrentHashMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry,
+            @Value("${blog.singleflight.wait-timeout-ms:2000}") long waitTimeoutMillis) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        Gauge.builder("blog.singleflight.in-flight", inFlight, Map::size)
+                .description("Loads currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the loader for this key, or join a load of the same key that is
+     * already in flight. Keys only coalesce within the same flight name.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String name, Object key, Supplier<V> loader) {
+        Meters flightMeters = meters(name);
+        FlightKey flightKey = new FlightKey(name, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+
+        if (existing == null) {
+            flightMeters.leaders().increment();
+            try {
+                V value = loader.get();
+                mine.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(flightKey, mine);
+            }
+        }
+
+        flightMeters.coalesced().increment();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return (V) existing.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            flightMeters.timeouts().increment();
+            log.debug("Gave up waiting on {} load of {} after {} ms", name, key, waitTimeoutMillis);
+            return loader.get();
+        } catch (ExecutionException e) {
+            // Waiters see the leader's failure as their own
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            if (e.getCause() instanceof Error error)
+                throw error;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting on " + name + " load", e);
+        } finally {
+            sample.stop(flightMeters.waitTime());
+        }
+    }
+
+    private Meters meters(String name) {
+        return meters.computeIfAbsent(name, n -> new Meters(
+                Counter.builder("blog.singleflight.calls").tag("flight", n).tag("role", "leader")
+                        .description("Loads run").register(meterRegistry),
+                Counter.builder("blog.singleflight.calls").tag("flight", n).tag("role", "coalesced")
+                        .description("Callers that joined a load already in flight").register(meterRegistry),
+                Counter.builder("blog.singleflight.timeouts").tag("flight", n)
+                        .description("Coalesced callers that gave up waiting and loaded themselves")
+                        .register(meterRegistry),
+                Timer.builder("blog.singleflight.wait").tag("flight", n)
+                        .description("Time coalesced callers spent waiting").register(meterRegistry)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.blogapp.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,13 +12,15 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
 
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements; // null when the total was not computed (cursor mode)
+    private Integer totalPages;
     private boolean first;
     private boolean last;
+    private String nextCursor; // opaque keyset cursor for the next page, if any
 }
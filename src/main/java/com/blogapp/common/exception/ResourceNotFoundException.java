@@ -9,4 +9,19 @@ public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
         super(message);
     }
+
+    private ResourceNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * Not-found without a stack trace, for expected misses on hot paths (e.g.
+     * unknown slugs from crawlers) where capturing the trace costs more than
+     * the lookup itself.
+     */
+    public static ResourceNotFoundException withoutStackTrace(String resourceName, String fieldName,
+            Object fieldValue) {
+        return new ResourceNotFoundException(
+                String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue), false);
+    }
 }
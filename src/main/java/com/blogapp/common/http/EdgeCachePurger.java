@@ -0,0 +1,11 @@
+package com.blogapp.common.http;
+
+import java.util.Collection;
+
+/**
+ * Purges edge-cached responses by surrogate key after a write.
+ */
+public interface EdgeCachePurger {
+
+    void purge(Collection<String> surrogateKeys);
+}
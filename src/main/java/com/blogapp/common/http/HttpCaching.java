@@ -0,0 +1,102 @@
+package com.blogapp.common.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for public read endpoints.
+ *
+ * The caller supplies a cheap version of the resource; If-None-Match and
+ * If-Modified-Since are checked against it before the body is built, and a
+ * matching request gets a 304 without one. Every response carries
+ * Cache-Control and surrogate keys for the edge cache.
+ */
+@Component
+public class HttpCaching {
+
+    /**
+     * Who may share a cached response.
+     */
+    public enum Audience {
+        /** Same for every caller */
+        EVERYONE,
+        /** Depends on the caller, and this one is anonymous — shareable between anonymous callers */
+        ANONYMOUS,
+        /** Depends on the caller, and this one is signed in — never stored by shared caches */
+        USER
+    }
+
+    private final Duration maxAge;
+    private final String surrogateKeyHeader;
+
+    public HttpCaching(@Value("${blog.http.max-age-seconds:60}") long maxAgeSeconds,
+            @Value("${blog.http.surrogate-key-header:Surrogate-Key}") String surrogateKeyHeader) {
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+        this.surrogateKeyHeader = surrogateKeyHeader;
+    }
+
+    /**
+     * 304 if the request's validators match the version, otherwise 200 with
+     * the body from the supplier. ETag and Last-Modified are written by
+     * {@link WebRequest#checkNotModified(String, long)}.
+     */
+    public <T> ResponseEntity<T> respond(WebRequest request, Audience audience, List<String> surrogateKeys,
+            String version, Instant lastModified, Supplier<T> body) {
+        HttpHeaders headers = cacheHeaders(audience, surrogateKeys);
+        if (request.checkNotModified(etag(version), lastModified.toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        return ResponseEntity.ok().headers(headers).body(body.get());
+    }
+
+    /**
+     * 200 with caching headers only, for responses that have no cheap
+     * version.
+     */
+    public <T> ResponseEntity<T> respond(Audience audience, List<String> surrogateKeys, T body) {
+        return ResponseEntity.ok().headers(cacheHeaders(audience, surrogateKeys)).body(body);
+    }
+
+    private HttpHeaders cacheHeaders(Audience audience, List<String> surrogateKeys) {
+        HttpHeaders headers = new HttpHeaders();
+        if (audience == Audience.USER) {
+            headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        } else {
+            headers.setCacheControl(CacheControl.maxAge(maxAge).cachePublic());
+        }
+        if (audience != Audience.EVERYONE) {
+            headers.setVary(List.of(HttpHeaders.AUTHORIZATION));
+        }
+        if (!surrogateKeys.isEmpty()) {
+            headers.set(surrogateKeyHeader, String.join(" ", surrogateKeys));
+        }
+        return headers;
+    }
+
+    /**
+     * Strong ETag for a version string — hashed so internal ids and
+     * timestamps aren't exposed.
+     */
+    static String etag(String version) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(version.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.blogapp.common.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Default purger for deployments without an edge cache: records the keys
+ * that would have been purged. Replace with a CDN-specific implementation
+ * to purge for real.
+ */
+@Slf4j
+@Component
+public class LoggingEdgeCachePurger implements EdgeCachePurger {
+
+    @Override
+    public void purge(Collection<String> surrogateKeys) {
+        if (!surrogateKeys.isEmpty()) {
+            log.info("Edge cache purge: {}", surrogateKeys);
+        }
+    }
+}
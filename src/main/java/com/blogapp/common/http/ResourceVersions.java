@@ -0,0 +1,39 @@
+package com.blogapp.common.http;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version of collection-level resources (all posts, the section
+ * tree, pricing) for conditional GETs.
+ *
+ * Writers bump a resource after changing it; readers turn the current tag
+ * into an ETag. Tags carry a per-process prefix so a restart never
+ * re-issues a tag that meant something else before.
+ */
+@Component
+public class ResourceVersions {
+
+    public record Version(String tag, Instant lastModified) {
+    }
+
+    private final String processId = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    private final Instant startedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Version> versions = new ConcurrentHashMap<>();
+
+    public Version current(String resource) {
+        return versions.getOrDefault(resource, new Version(processId + "-0", startedAt));
+    }
+
+    public void bump(String resource) {
+        versions.put(resource, new Version(processId + "-" + sequence.incrementAndGet(),
+                Instant.now().truncatedTo(ChronoUnit.SECONDS)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.blogapp.common.http;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Surrogate keys attached to cacheable responses, so an edge cache can purge
+ * everything derived from one post or section. Collection-wide keys double
+ * as {@link ResourceVersions} names.
+ */
+public final class SurrogateKeys {
+
+    public static final String BLOGS = "blogs";
+    public static final String ARCHIVE = "archive";
+    public static final String SECTIONS = "sections";
+    public static final String PRICING = "pricing";
+
+    private SurrogateKeys() {
+    }
+
+    public static String blog(String blogId) {
+        return "blog-" + blogId;
+    }
+
+    public static String section(String sectionId) {
+        return "section-" + sectionId;
+    }
+
+    /**
+     * The given keys plus one per non-blank section id.
+     */
+    public static List<String> withSections(List<String> keys, String... sectionIds) {
+        List<String> all = new ArrayList<>(keys);
+        for (String sectionId : sectionIds) {
+            if (sectionId != null && !sectionId.isBlank() && !all.contains(section(sectionId))) {
+                all.add(section(sectionId));
+            }
+        }
+        return all;
+    }
+}
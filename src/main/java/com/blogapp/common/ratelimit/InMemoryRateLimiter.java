@@ -0,0 +1,83 @@
+package com.blogapp.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding-window rate limiter kept in process memory.
+ *
+ * Each key holds the counts of the current and previous fixed windows; the
+ * previous count is weighted by how much of it still overlaps the sliding
+ * window. State is swapped with compare-and-set, so there are no locks on the
+ * hot path. Keys live in a size-bounded Caffeine cache and expire once idle.
+ *
+ * Limits are per instance: with several instances behind a load balancer
+ * each one enforces the limit on its own share of traffic.
+ */
+@Component
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private final Clock clock;
+    private final Cache<String, AtomicReference<Window>> windows;
+
+    @Autowired
+    public InMemoryRateLimiter(
+            @Value("${blog.rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${blog.rate-limit.idle-expiry-seconds:300}") long idleExpirySeconds) {
+        this(maxKeys, idleExpirySeconds, Clock.systemUTC());
+    }
+
+    InMemoryRateLimiter(long maxKeys, long idleExpirySeconds, Clock clock) {
+        this.clock = clock;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofSeconds(idleExpirySeconds))
+                .ticker(() -> Duration.ofMillis(clock.millis()).toNanos())
+                .build();
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, Duration window) {
+        long windowMillis = window.toMillis();
+        AtomicReference<Window> ref = windows.get(key, k -> new AtomicReference<>(Window.EMPTY));
+
+        while (true) {
+            long now = clock.millis();
+            long index = now / windowMillis;
+            Window current = ref.get();
+            Window rolled = current.rollTo(index);
+
+            double elapsed = (double) (now % windowMillis) / windowMillis;
+            double estimate = rolled.previous() * (1 - elapsed) + rolled.current();
+            if (estimate >= limit) {
+                // Keep the rolled-over state so stale counts don't linger
+                ref.compareAndSet(current, rolled);
+                return false;
+            }
+
+            if (ref.compareAndSet(current, new Window(index, rolled.current() + 1, rolled.previous()))) {
+                return true;
+            }
+        }
+    }
+
+    private record Window(long index, int current, int previous) {
+
+        static final Window EMPTY = new Window(0, 0, 0);
+
+        Window rollTo(long newIndex) {
+            if (newIndex == index)
+                return this;
+            if (newIndex == index + 1)
+                return new Window(newIndex, 0, current);
+            return new Window(newIndex, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.blogapp.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Decides whether an action identified by a key may proceed.
+ */
+@FunctionalInterface
+public interface RateLimiter {
+
+    /**
+     * Record an attempt for the key and return whether it is within the
+     * limit. Rejected attempts are not counted.
+     *
+     * @param key    caller identity, namespaced by action (e.g. "comment:" + ipHash)
+     * @param limit  attempts allowed per window
+     * @param window length of the sliding window
+     */
+    boolean tryAcquire(String key, int limit, Duration window);
+}
@@ -0,0 +1,97 @@
+package com.blogapp.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe Bloom filter over strings.
+ *
+ * Sized once from the expected number of insertions and the target
+ * false-positive rate; memory never grows after that. Bits are set with CAS,
+ * so concurrent writers need no lock. Uses double hashing over two
+ * {@link Hash64} hashes of the value.
+ */
+public final class BloomFilter {
+
+    private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0)
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Add the value. Returns true if it was definitely not present before,
+     * false if it may have been.
+     */
+    public boolean put(String value) {
+        long h1 = Hash64.hash(value, SEED_1);
+        long h2 = Hash64.hash(value, SEED_2) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            changed |= setBit(Math.floorMod(h1 + i * h2, bitCount));
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = Hash64.hash(value, SEED_1);
+        long h2 = Hash64.hash(value, SEED_2) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Probability that a value never added is reported as present, given how
+     * full the filter is now.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits() / bitCount, hashCount);
+    }
+
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, 0);
+        }
+    }
+
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    private long setBits() {
+        long count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    private boolean setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        while (true) {
+            long word = words.get(index);
+            if ((word & mask) != 0)
+                return false;
+            if (words.compareAndSet(index, word, word | mask))
+                return true;
+        }
+    }
+}
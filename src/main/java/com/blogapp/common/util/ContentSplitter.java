@@ -2,37 +2,47 @@ package com.blogapp.common.util;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
 import org.jsoup.select.Elements;
 
 /**
  * Splits HTML content into two roughly equal parts by word count,
  * preserving paragraph boundaries.
  *
- * Returns a String[2]: [0] = part1 HTML, [1] = part2 HTML.
- * If content is too short to split, part2 will be empty.
+ * The split point is expressed as a code-point offset into the original
+ * HTML, so it can be stored instead of a second copy of the content and
+ * applied later (in Java or with $substrCP in MongoDB).
  */
 public final class ContentSplitter {
 
     private ContentSplitter() {
     }
 
-    public static String[] split(String html) {
+    /**
+     * Code-point offset where part 2 begins: the start of the first block
+     * past the halfway word count. Equals the full length when the content is
+     * too short to split, and zero (nothing free) when the split position
+     * cannot be located in the source.
+     */
+    public static int splitOffset(String html) {
         if (html == null || html.isBlank()) {
-            return new String[] { "", "" };
+            return 0;
         }
 
-        Document doc = Jsoup.parseBodyFragment(html);
+        int fullLength = html.codePointCount(0, html.length());
+
+        Document doc = Jsoup.parse(html, "", Parser.htmlParser().setTrackPosition(true));
         Elements children = doc.body().children();
 
         if (children.isEmpty()) {
-            return new String[] { html, "" };
+            return fullLength;
         }
 
         // Count total words
         int totalWords = countWords(doc.body().text());
         if (totalWords < 20) {
             // Too short to split meaningfully
-            return new String[] { html, "" };
+            return fullLength;
         }
 
         int halfWords = totalWords / 2;
@@ -55,18 +65,24 @@ public final class ContentSplitter {
         if (splitIndex >= children.size())
             splitIndex = children.size() - 1;
 
-        StringBuilder part1 = new StringBuilder();
-        StringBuilder part2 = new StringBuilder();
-
-        for (int i = 0; i < children.size(); i++) {
-            if (i < splitIndex) {
-                part1.append(children.get(i).outerHtml());
-            } else {
-                part2.append(children.get(i).outerHtml());
-            }
+        int charOffset = children.get(splitIndex).sourceRange().startPos();
+        if (charOffset < 0) {
+            // Fail closed: never hand out the premium part as the free one
+            return 0;
         }
+        return html.codePointCount(0, charOffset);
+    }
 
-        return new String[] { part1.toString(), part2.toString() };
+    /**
+     * Cut the HTML at a code-point offset produced by {@link #splitOffset}.
+     */
+    public static String[] splitAt(String html, int codePointOffset) {
+        if (html == null) {
+            return new String[] { "", "" };
+        }
+        int length = html.codePointCount(0, html.length());
+        int index = html.offsetByCodePoints(0, Math.max(0, Math.min(codePointOffset, length)));
+        return new String[] { html.substring(0, index), html.substring(index) };
     }
 
     private static int countWords(String text) {
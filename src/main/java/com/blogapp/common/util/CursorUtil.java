@@ -0,0 +1,55 @@
+package com.blogapp.common.util;
+
+import com.blogapp.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Encodes keyset-pagination cursors as opaque URL-safe tokens.
+ *
+ * A cursor is a version tag followed by the parts supplied by the caller
+ * (typically the sort name, the sort-key value and the document id).
+ * Clients must treat it as opaque.
+ */
+public final class CursorUtil {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    private static final Pattern SPLITTER = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    private CursorUtil() {
+        // Utility class — prevent instantiation
+    }
+
+    public static String encode(String... parts) {
+        String raw = VERSION + SEPARATOR + String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode}.
+     *
+     * @throws BadRequestException if the token is malformed or has the wrong
+     *                             number of parts
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        String[] tokens = SPLITTER.split(raw, -1);
+        if (tokens.length != expectedParts + 1 || !VERSION.equals(tokens[0])) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        String[] parts = new String[expectedParts];
+        System.arraycopy(tokens, 1, parts, 0, expectedParts);
+        return parts;
+    }
+}
@@ -0,0 +1,30 @@
+package com.blogapp.common.util;
+
+/**
+ * Fast non-cryptographic 64-bit string hash for probabilistic structures
+ * (Bloom filters, HyperLogLog). Not for anything security-related.
+ */
+public final class Hash64 {
+
+    private Hash64() {
+        // Utility class — prevent instantiation
+    }
+
+    /**
+     * FNV-1a over the chars, finished with the MurmurHash3 64-bit mixer so
+     * every input bit affects every output bit.
+     */
+    public static long hash(String value, long seed) {
+        long h = seed ^ 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE1A85379L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
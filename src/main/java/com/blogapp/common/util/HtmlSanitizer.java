@@ -41,4 +41,15 @@ public final class HtmlSanitizer {
         }
         return Jsoup.clean(html, Safelist.none());
     }
+
+    /**
+     * Extract the visible text of an HTML fragment (entities decoded,
+     * whitespace normalized) — used for indexing, not for output.
+     */
+    public static String toPlainText(String html) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+        return Jsoup.parseBodyFragment(html).text();
+    }
 }
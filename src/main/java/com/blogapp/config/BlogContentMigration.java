@@ -0,0 +1,64 @@
+package com.blogapp.config;
+
+import com.blogapp.blog.service.BlogContentService;
+import com.blogapp.common.util.ContentSplitter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Moves bodies still stored inline on blog_posts (contentHtml, contentJson and
+ * the precomputed premium parts) into blog_contents. Idempotent — only posts
+ * that still carry an inline body are touched.
+ */
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class BlogContentMigration implements CommandLineRunner {
+
+    private static final String COLLECTION = "blog_posts";
+
+    private final MongoTemplate mongoTemplate;
+    private final BlogContentService blogContentService;
+
+    @Override
+    public void run(String... args) {
+        Query query = new Query(Criteria.where("contentHtml").exists(true));
+        query.fields().include("contentHtml", "contentJson", "internalRating");
+
+        int migrated = 0;
+        try (Stream<Document> legacy = mongoTemplate.stream(query, Document.class, COLLECTION)) {
+            for (Document doc : (Iterable<Document>) legacy::iterator) {
+                String html = doc.getString("contentHtml");
+                Integer rating = doc.getInteger("internalRating");
+
+                Update update = new Update()
+                        .set("contentId", blogContentService.store(html, doc.getString("contentJson")))
+                        .unset("contentHtml")
+                        .unset("contentJson")
+                        .unset("contentPart1Html")
+                        .unset("contentPart2Html");
+                if (rating != null && rating > 6) {
+                    update.set("premiumSplitOffset", ContentSplitter.splitOffset(html));
+                }
+
+                mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(doc.get("_id"))), update, COLLECTION);
+                migrated++;
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("Moved {} inline blog bodies into blog_contents", migrated);
+        }
+    }
+}
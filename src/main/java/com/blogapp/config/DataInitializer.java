@@ -3,6 +3,7 @@ package com.blogapp.config;
 import com.blogapp.blog.entity.BlogPost;
 import com.blogapp.blog.enums.BlogStatus;
 import com.blogapp.blog.repository.BlogPostRepository;
+import com.blogapp.blog.service.BlogContentService;
 import com.blogapp.comment.entity.BlogComment;
 import com.blogapp.comment.enums.CommentStatus;
 import com.blogapp.comment.repository.CommentRepository;
@@ -30,6 +31,7 @@ import java.util.List;
 public class DataInitializer implements CommandLineRunner {
 
     private final BlogPostRepository blogPostRepository;
+    private final BlogContentService blogContentService;
     private final CommentRepository commentRepository;
     private final SubscriberRepository subscriberRepository;
     private final SectionRepository sectionRepository;
@@ -87,6 +89,8 @@ public class DataInitializer implements CommandLineRunner {
             }
         }
 
+        // Templates share bodies, so the seeded posts collapse onto a few blog_contents documents
+        finalBlogs.forEach(blogContentService::applyContent);
         blogPostRepository.saveAll(finalBlogs);
         log.info("Created {} sample blogs", finalBlogs.size());
 
@@ -233,10 +237,6 @@ public class DataInitializer implements CommandLineRunner {
                 .likesCount(142).dislikesCount(5).commentsCount(3).viewsCount(856)
                 .emailSent(true)
                 .internalRating(9) // Premium trigger
-                .contentPart1Html(
-                        "<h1>The Complete Guide to Modern Java Development</h1><p>Java has evolved dramatically in recent years. This guide covers the most impactful features from Java 17 through 21 that every developer should know.</p><h2>1. Records — Data Classes Made Simple</h2><p>Records eliminate the boilerplate of data-carrying classes...</p>")
-                .contentPart2Html(
-                        "<h2>2. Sealed Classes</h2><p>Sealed classes restrict which other classes or interfaces may extend or implement them.</p><h2>3. Pattern Matching</h2><p>Pattern matching makes type checks and casts <em>incredibly</em> clean.</p><h2>4. Virtual Threads (Project Loom)</h2><p>Virtual threads allow you to create <strong>millions</strong> of lightweight threads.</p>")
                 .build();
 
         // ── Blog 2: CSS & Design ──
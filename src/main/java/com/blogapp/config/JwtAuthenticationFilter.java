@@ -1,12 +1,14 @@
 package com.blogapp.config;
 
+import com.blogapp.user.cache.UserPrincipalCache;
 import com.blogapp.user.entity.User;
-import com.blogapp.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,6 +16,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 /**
@@ -26,7 +30,10 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+
+    @Value("${blog.auth.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -37,10 +44,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            String userId = jwtTokenProvider.getUserIdFromToken(token);
 
-            if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                User user = userRepository.findById(userId).orElse(null);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                User user = statelessPrincipal ? userFromClaims(token) : userFromStore(token);
                 if (user != null) {
                     UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
                             user,
@@ -53,4 +59,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private User userFromStore(String token) {
+        String userId = jwtTokenProvider.getUserIdFromToken(token);
+        return userId != null ? userPrincipalCache.get(userId).orElse(null) : null;
+    }
+
+    /**
+     * Principal built only from the verified token — no lookup. Profile
+     * changes show up once a new token is issued.
+     */
+    private User userFromClaims(String token) {
+        Claims claims = jwtTokenProvider.getClaims(token);
+        if (claims == null || claims.getSubject() == null)
+            return null;
+
+        return User.builder()
+                .id(claims.getSubject())
+                .email(claims.get("email", String.class))
+                .name(claims.get("name", String.class))
+                // Tokens are only issued after OTP verification
+                .emailVerifiedAt(LocalDateTime.ofInstant(claims.getIssuedAt().toInstant(), ZoneId.systemDefault()))
+                .build();
+    }
 }
@@ -1,7 +1,11 @@
 package com.blogapp.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -9,32 +13,72 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility to generate and validate JWT tokens for user authentication.
+ *
+ * Verified tokens are cached by their SHA-256 digest until they expire, so a
+ * client reusing one token pays for signature verification and claim parsing
+ * only once.
  */
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey key;
     private final long expiryMs;
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, Claims> verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${blog.jwt.secret}") String base64Secret,
-            @Value("${blog.jwt.expiry-hours:24}") int expiryHours) {
+            @Value("${blog.jwt.expiry-hours:24}") int expiryHours,
+            @Value("${blog.jwt.verified-cache-max-entries:10000}") long verifiedCacheMaxEntries) {
         this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
         this.expiryMs = (long) expiryHours * 60 * 60 * 1000;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxEntries)
+                .expireAfter(new Expiry<ByteBuffer, Claims>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer digest, Claims claims, long currentTime) {
+                        // Never outlive the token itself
+                        Date expiration = claims.getExpiration();
+                        long remainingMs = expiration != null
+                                ? expiration.getTime() - System.currentTimeMillis()
+                                : expiryMs;
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer digest, Claims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer digest, Claims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     /**
-     * Generate a JWT containing userId and email.
+     * Generate a JWT containing userId, email and name.
      */
-    public String generateToken(String userId, String email) {
+    public String generateToken(String userId, String email, String name) {
         Date now = new Date();
         return Jwts.builder()
                 .subject(userId)
                 .claim("email", email)
+                .claim("name", name)
                 .issuedAt(now)
                 .expiration(new Date(now.getTime() + expiryMs))
                 .signWith(key)
@@ -46,18 +90,37 @@ public class JwtTokenProvider {
      * Returns null if the token is invalid or expired.
      */
     public String getUserIdFromToken(String token) {
+        Claims claims = getClaims(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    /**
+     * All claims of a valid token, or null if the token is invalid or expired.
+     */
+    public Claims getClaims(String token) {
+        if (token == null || token.isBlank())
+            return null;
+        // Invalid tokens load as null and are not cached
+        return verifiedTokens.get(digest(token), d -> verify(token));
+    }
+
+    private Claims verify(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return claims.getSubject();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
             return null;
         }
     }
 
+    private ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     /**
      * Validate the token signature and expiry.
      */
@@ -45,6 +45,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/blogs/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/blogs/*/view", "/api/blogs/views").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/blogs/*/reaction").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/blogs/*/reaction").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/blogs/*/comments").permitAll()
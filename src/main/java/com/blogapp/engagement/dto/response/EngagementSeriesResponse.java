@@ -0,0 +1,52 @@
+package com.blogapp.engagement.dto.response;
+
+import com.blogapp.engagement.enums.Granularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Views, likes, dislikes and comments over time")
+public class EngagementSeriesResponse {
+
+    @Schema(description = "Bucket size: HOUR, DAY or MONTH")
+    private Granularity granularity;
+
+    @Schema(description = "Start of the first bucket")
+    private LocalDateTime from;
+
+    @Schema(description = "End of the range (exclusive)")
+    private LocalDateTime to;
+
+    @Schema(description = "Blogs included — empty means all")
+    private List<String> blogIds;
+
+    @Schema(description = "Sections included — empty means all")
+    private List<String> sectionIds;
+
+    @Schema(description = "Sums over the whole range")
+    private Point totals;
+
+    @Schema(description = "One point per bucket with activity, oldest first")
+    private List<Point> points;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime bucketStart;
+        private long views;
+        private long likes;
+        private long dislikes;
+        private long comments;
+    }
+}
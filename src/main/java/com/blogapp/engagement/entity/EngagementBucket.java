@@ -0,0 +1,54 @@
+package com.blogapp.engagement.entity;
+
+import com.blogapp.engagement.enums.Granularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Engagement of one blog in one hour, day or month. Hourly buckets are
+ * written from in-memory minute buckets; daily and monthly ones are rolled
+ * up from the level below.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "blog_engagement")
+@CompoundIndex(name = "granularity_start_idx", def = "{'granularity': 1, 'bucketStart': 1}")
+@CompoundIndex(name = "blog_granularity_start_idx", def = "{'blogId': 1, 'granularity': 1, 'bucketStart': 1}")
+public class EngagementBucket {
+
+    // blogId + ":" + granularity + ":" + bucketStart
+    @Id
+    private String id;
+
+    private String blogId;
+
+    private String sectionId;
+
+    private Granularity granularity;
+
+    private LocalDateTime bucketStart;
+
+    // Deltas within the bucket (comments can be negative when hidden or deleted)
+    private long views;
+
+    private long likes;
+
+    private long dislikes;
+
+    private long comments;
+
+    private LocalDateTime updatedAt;
+
+    public static String idOf(String blogId, Granularity granularity, LocalDateTime bucketStart) {
+        return blogId + ":" + granularity + ":" + bucketStart;
+    }
+}
@@ -0,0 +1,36 @@
+package com.blogapp.engagement.enums;
+
+import com.blogapp.blog.repository.BlogPostCounterRepository;
+
+/**
+ * Counters tracked over time, with the field they are stored under.
+ */
+public enum EngagementMetric {
+    VIEWS("views"),
+    LIKES("likes"),
+    DISLIKES("dislikes"),
+    COMMENTS("comments");
+
+    private final String field;
+
+    EngagementMetric(String field) {
+        this.field = field;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    /**
+     * Metric for a BlogPost counter field (see {@link BlogPostCounterRepository}).
+     */
+    public static EngagementMetric ofCounterField(String counterField) {
+        return switch (counterField) {
+            case BlogPostCounterRepository.VIEWS -> VIEWS;
+            case BlogPostCounterRepository.LIKES -> LIKES;
+            case BlogPostCounterRepository.DISLIKES -> DISLIKES;
+            case BlogPostCounterRepository.COMMENTS -> COMMENTS;
+            default -> throw new IllegalArgumentException("Unknown counter field: " + counterField);
+        };
+    }
+}
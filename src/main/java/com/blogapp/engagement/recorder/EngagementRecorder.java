@@ -0,0 +1,12 @@
+package com.blogapp.engagement.recorder;
+
+import com.blogapp.engagement.enums.EngagementMetric;
+
+/**
+ * Records counter changes of a blog for the engagement time series.
+ */
+@FunctionalInterface
+public interface EngagementRecorder {
+
+    void record(String blogId, EngagementMetric metric, long delta);
+}
@@ -0,0 +1,216 @@
+package com.blogapp.engagement.recorder;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.engagement.entity.EngagementBucket;
+import com.blogapp.engagement.enums.EngagementMetric;
+import com.blogapp.engagement.enums.Granularity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory minute buckets of counter deltas per blog, written to hourly
+ * {@link EngagementBucket}s.
+ *
+ * Each flush takes the completed minutes (and, on shutdown, the current
+ * one), sums them per blog-hour and writes one unordered bulk of upserted
+ * $inc updates. Upserts rejected by a partially failed bulk write are put
+ * back for the next flush; when the write fails as a whole all of them are.
+ * When the maximum number of minute buckets is held, deltas for further
+ * blog-minutes are dropped and counted. Queries read copies of the minutes
+ * not yet taken by a flush through {@link #pending}.
+ */
+@Slf4j
+@Component
+public class MinuteBucketRecorder implements EngagementRecorder {
+
+    private static final EngagementMetric[] METRICS = EngagementMetric.values();
+
+    private record MinuteKey(String blogId, LocalDateTime minute) {
+    }
+
+    private record HourKey(String blogId, LocalDateTime hour) {
+    }
+
+    /**
+     * Copy of a minute's deltas not yet written, indexed by
+     * {@link EngagementMetric#ordinal()}.
+     */
+    public record PendingMinute(String blogId, LocalDateTime minute, long[] counts) {
+
+        public long get(EngagementMetric metric) {
+            return counts[metric.ordinal()];
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final int maxBuckets;
+    private final ConcurrentHashMap<MinuteKey, long[]> minutes = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+
+    public MinuteBucketRecorder(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+            @Value("${blog.engagement.max-minute-buckets:100000}") int maxBuckets) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxBuckets = maxBuckets;
+        Gauge.builder("blog.engagement.minute-buckets", minutes, Map::size)
+                .description("Blog-minute engagement buckets not yet written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("blog.engagement.flush")
+                .description("Time to write minute buckets to hourly documents")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("blog.engagement.dropped")
+                .description("Counter deltas dropped because too many minute buckets were held")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(String blogId, EngagementMetric metric, long delta) {
+        if (blogId == null || delta == 0)
+            return;
+        MinuteKey key = new MinuteKey(blogId, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+        if (!minutes.containsKey(key) && minutes.size() >= maxBuckets) {
+            droppedCounter.increment();
+            return;
+        }
+        // compute() holds the bin lock, so a flush can't take the bucket out mid-update
+        minutes.compute(key, (k, counts) -> {
+            long[] target = counts != null ? counts : new long[METRICS.length];
+            target[metric.ordinal()] += delta;
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${blog.engagement.flush-interval-ms:60000}")
+    public void scheduledFlush() {
+        flush(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    /**
+     * Copies of the minutes in [from, to) not yet taken by a flush.
+     */
+    public List<PendingMinute> pending(LocalDateTime from, LocalDateTime to) {
+        List<PendingMinute> copies = new ArrayList<>();
+        for (MinuteKey key : Set.copyOf(minutes.keySet())) {
+            if (key.minute().isBefore(from) || !key.minute().isBefore(to))
+                continue;
+            // Copy under the bin lock so a concurrent record() is seen whole or not at all
+            minutes.computeIfPresent(key, (k, counts) -> {
+                copies.add(new PendingMinute(k.blogId(), k.minute(), counts.clone()));
+                return counts;
+            });
+        }
+        return copies;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Include the current minute
+        flush(LocalDateTime.MAX);
+    }
+
+    private synchronized void flush(LocalDateTime before) {
+        Map<MinuteKey, long[]> batch = new HashMap<>();
+        for (MinuteKey key : Set.copyOf(minutes.keySet())) {
+            if (key.minute().isBefore(before)) {
+                long[] counts = minutes.remove(key);
+                if (counts != null) {
+                    batch.put(key, counts);
+                }
+            }
+        }
+        if (batch.isEmpty())
+            return;
+
+        Map<HourKey, long[]> hours = new HashMap<>();
+        batch.forEach((key, counts) -> {
+            long[] sum = hours.computeIfAbsent(
+                    new HourKey(key.blogId(), Granularity.HOUR.truncate(key.minute())),
+                    k -> new long[METRICS.length]);
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] += counts[i];
+            }
+        });
+
+        List<Map.Entry<HourKey, long[]>> updates = new ArrayList<>(hours.entrySet());
+        Timer.Sample sample = Timer.start();
+        try {
+            Map<String, String> sections = findSections(hours.keySet());
+            LocalDateTime now = LocalDateTime.now();
+            BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EngagementBucket.class);
+            updates.forEach(entry -> {
+                HourKey key = entry.getKey();
+                long[] counts = entry.getValue();
+                Update update = new Update()
+                        .setOnInsert("blogId", key.blogId())
+                        .setOnInsert("sectionId", sections.get(key.blogId()))
+                        .setOnInsert("granularity", Granularity.HOUR)
+                        .setOnInsert("bucketStart", key.hour())
+                        .set("updatedAt", now);
+                for (EngagementMetric metric : METRICS) {
+                    update.inc(metric.field(), counts[metric.ordinal()]);
+                }
+                ops.upsert(new Query(Criteria.where("_id")
+                        .is(EngagementBucket.idOf(key.blogId(), Granularity.HOUR, key.hour()))), update);
+            });
+            ops.execute();
+            log.debug("Flushed {} minute buckets into {} hourly buckets", batch.size(), hours.size());
+        } catch (BulkOperationException e) {
+            // Errors carry the index of the failed upsert; the others were applied
+            log.warn("Failed to write {} of {} hourly buckets, retrying next cycle: {}",
+                    e.getErrors().size(), updates.size(), e.getMessage());
+            e.getErrors().forEach(error -> restore(updates.get(error.getIndex())));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} minute buckets, retrying next cycle: {}", batch.size(), e.getMessage());
+            updates.forEach(this::restore);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    /**
+     * Put an hour's sums back as deltas of its first minute, which the next
+     * flush adds to the same hourly bucket.
+     */
+    private void restore(Map.Entry<HourKey, long[]> update) {
+        minutes.merge(new MinuteKey(update.getKey().blogId(), update.getKey().hour()), update.getValue(),
+                (current, returned) -> {
+                    for (int i = 0; i < current.length; i++) {
+                        current[i] += returned[i];
+                    }
+                    return current;
+                });
+    }
+
+    private Map<String, String> findSections(Set<HourKey> keys) {
+        Set<String> blogIds = keys.stream().map(HourKey::blogId).collect(Collectors.toSet());
+        Query query = new Query(Criteria.where("id").in(blogIds));
+        query.fields().include("sectionId");
+        List<BlogPost> blogs = mongoTemplate.find(query, BlogPost.class);
+        return blogs.stream()
+                .filter(blog -> blog.getSectionId() != null)
+                .collect(Collectors.toMap(BlogPost::getId, BlogPost::getSectionId));
+    }
+}
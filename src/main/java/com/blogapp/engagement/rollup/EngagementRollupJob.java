@@ -0,0 +1,133 @@
+package com.blogapp.engagement.rollup;
+
+import com.blogapp.engagement.entity.EngagementBucket;
+import com.blogapp.engagement.enums.EngagementMetric;
+import com.blogapp.engagement.enums.Granularity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Rolls hourly engagement buckets up into daily ones and daily into monthly,
+ * then deletes buckets past their granularity's retention.
+ *
+ * Each run recomputes the recent days and months from the level below and
+ * overwrites them with $set, so it is idempotent and any instance may run it.
+ * Hourly retention must cover the lookback and daily retention two months,
+ * or rollups would be recomputed from purged data.
+ */
+@Slf4j
+@Component
+public class EngagementRollupJob {
+
+    private static final EngagementMetric[] METRICS = EngagementMetric.values();
+
+    private final MongoTemplate mongoTemplate;
+    private final int lookbackDays;
+    private final int hourlyRetentionDays;
+    private final int dailyRetentionDays;
+    private final int monthlyRetentionMonths;
+    private final Timer rollupTimer;
+
+    public EngagementRollupJob(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+            @Value("${blog.engagement.rollup-lookback-days:2}") int lookbackDays,
+            @Value("${blog.engagement.hourly-retention-days:14}") int hourlyRetentionDays,
+            @Value("${blog.engagement.daily-retention-days:400}") int dailyRetentionDays,
+            @Value("${blog.engagement.monthly-retention-months:0}") int monthlyRetentionMonths) {
+        this.mongoTemplate = mongoTemplate;
+        this.lookbackDays = lookbackDays;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+        this.dailyRetentionDays = dailyRetentionDays;
+        this.monthlyRetentionMonths = monthlyRetentionMonths;
+        this.rollupTimer = Timer.builder("blog.engagement.rollup")
+                .description("Time to roll up and purge engagement buckets")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${blog.engagement.rollup-cron:0 5 * * * *}")
+    public void run() {
+        rollupTimer.record(() -> {
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime today = Granularity.DAY.truncate(now);
+                for (int i = lookbackDays; i >= 0; i--) {
+                    rollup(Granularity.HOUR, Granularity.DAY, today.minusDays(i));
+                }
+                LocalDateTime thisMonth = Granularity.MONTH.truncate(now);
+                rollup(Granularity.DAY, Granularity.MONTH, thisMonth.minusMonths(1));
+                rollup(Granularity.DAY, Granularity.MONTH, thisMonth);
+
+                purge(Granularity.HOUR, hourlyRetentionDays > 0 ? today.minusDays(hourlyRetentionDays) : null);
+                purge(Granularity.DAY, dailyRetentionDays > 0 ? today.minusDays(dailyRetentionDays) : null);
+                purge(Granularity.MONTH,
+                        monthlyRetentionMonths > 0 ? thisMonth.minusMonths(monthlyRetentionMonths) : null);
+            } catch (RuntimeException e) {
+                log.warn("Engagement rollup failed, retrying next run: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Recompute every blog's {@code target} bucket starting at {@code start}
+     * from its {@code source} buckets.
+     */
+    void rollup(Granularity source, Granularity target, LocalDateTime start) {
+        LocalDateTime end = target.next(start);
+        GroupOperation group = Aggregation.group("blogId").first("sectionId").as("sectionId");
+        for (EngagementMetric metric : METRICS) {
+            group = group.sum(metric.field()).as(metric.field());
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("granularity").is(source)
+                        .and("bucketStart").gte(start).lt(end)),
+                group);
+        List<Document> totals = mongoTemplate
+                .aggregate(aggregation, EngagementBucket.class, Document.class)
+                .getMappedResults();
+        if (totals.isEmpty())
+            return;
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EngagementBucket.class);
+        for (Document total : totals) {
+            String blogId = total.getString("_id");
+            Update update = new Update()
+                    .set("blogId", blogId)
+                    .set("sectionId", total.getString("sectionId"))
+                    .set("granularity", target)
+                    .set("bucketStart", start)
+                    .set("updatedAt", now);
+            for (EngagementMetric metric : METRICS) {
+                Number value = total.get(metric.field(), Number.class);
+                update.set(metric.field(), value != null ? value.longValue() : 0L);
+            }
+            ops.upsert(new Query(Criteria.where("_id").is(EngagementBucket.idOf(blogId, target, start))), update);
+        }
+        ops.execute();
+        log.debug("Rolled up {} {} buckets starting {}", totals.size(), target, start);
+    }
+
+    private void purge(Granularity granularity, LocalDateTime before) {
+        if (before == null)
+            return;
+        long deleted = mongoTemplate.remove(new Query(Criteria.where("granularity").is(granularity)
+                .and("bucketStart").lt(before)), EngagementBucket.class).getDeletedCount();
+        if (deleted > 0) {
+            log.info("Purged {} {} engagement buckets before {}", deleted, granularity, before);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.blogapp.engagement.service;
+
+import com.blogapp.engagement.dto.response.EngagementSeriesResponse;
+import com.blogapp.engagement.enums.Granularity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface EngagementService {
+
+    /**
+     * Engagement summed per bucket between two days (inclusive), optionally
+     * limited to some blogs and/or sections.
+     */
+    EngagementSeriesResponse getSeries(Granularity granularity, LocalDate from, LocalDate to,
+            List<String> blogIds, List<String> sectionIds);
+}
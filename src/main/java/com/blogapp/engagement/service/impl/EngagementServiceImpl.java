@@ -0,0 +1,164 @@
+package com.blogapp.engagement.service.impl;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.common.exception.BadRequestException;
+import com.blogapp.engagement.dto.response.EngagementSeriesResponse;
+import com.blogapp.engagement.entity.EngagementBucket;
+import com.blogapp.engagement.enums.EngagementMetric;
+import com.blogapp.engagement.enums.Granularity;
+import com.blogapp.engagement.recorder.MinuteBucketRecorder;
+import com.blogapp.engagement.service.EngagementService;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class EngagementServiceImpl implements EngagementService {
+
+    private final MinuteBucketRecorder minuteBucketRecorder;
+    private final MongoTemplate mongoTemplate;
+    private final int maxPoints;
+
+    public EngagementServiceImpl(MinuteBucketRecorder minuteBucketRecorder, MongoTemplate mongoTemplate,
+            @Value("${blog.engagement.max-points:2000}") int maxPoints) {
+        this.minuteBucketRecorder = minuteBucketRecorder;
+        this.mongoTemplate = mongoTemplate;
+        this.maxPoints = maxPoints;
+    }
+
+    @Override
+    public EngagementSeriesResponse getSeries(Granularity granularity, LocalDate from, LocalDate to,
+            List<String> blogIds, List<String> sectionIds) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        LocalDateTime start = granularity.truncate(from.atStartOfDay());
+        LocalDateTime end = granularity.next(granularity.truncate(to.atStartOfDay()));
+        long bucketCount = switch (granularity) {
+            case HOUR -> ChronoUnit.HOURS.between(start, end);
+            case DAY -> ChronoUnit.DAYS.between(start, end);
+            case MONTH -> ChronoUnit.MONTHS.between(start, end);
+        };
+        if (bucketCount > maxPoints) {
+            throw new BadRequestException("Range has " + bucketCount + " " + granularity
+                    + " buckets; at most " + maxPoints + " are allowed — use a coarser granularity");
+        }
+        List<String> blogs = blogIds != null ? blogIds : List.of();
+        List<String> sections = sectionIds != null ? sectionIds : List.of();
+
+        Criteria criteria = Criteria.where("granularity").is(granularity)
+                .and("bucketStart").gte(start).lt(end);
+        if (!blogs.isEmpty()) {
+            criteria = criteria.and("blogId").in(blogs);
+        }
+        if (!sections.isEmpty()) {
+            criteria = criteria.and("sectionId").in(sections);
+        }
+        GroupOperation group = Aggregation.group("bucketStart");
+        for (EngagementMetric metric : EngagementMetric.values()) {
+            group = group.sum(metric.field()).as(metric.field());
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                group,
+                Aggregation.sort(Sort.Direction.ASC, "_id"));
+        List<Document> rows = mongoTemplate
+                .aggregate(aggregation, EngagementBucket.class, Document.class)
+                .getMappedResults();
+
+        Map<LocalDateTime, EngagementSeriesResponse.Point> points = new TreeMap<>();
+        for (Document row : rows) {
+            LocalDateTime bucketStart = toLocalDateTime(row.get("_id"));
+            add(points, bucketStart, longValue(row, EngagementMetric.VIEWS), longValue(row, EngagementMetric.LIKES),
+                    longValue(row, EngagementMetric.DISLIKES), longValue(row, EngagementMetric.COMMENTS));
+        }
+
+        // Hourly buckets are written every minute by the recorder's own flush; add
+        // read-only copies of what it still holds instead of writing here
+        if (granularity == Granularity.HOUR) {
+            List<MinuteBucketRecorder.PendingMinute> recent = minuteBucketRecorder.pending(start, end).stream()
+                    .filter(minute -> blogs.isEmpty() || blogs.contains(minute.blogId()))
+                    .toList();
+            Set<String> inSections = sections.isEmpty() ? null : blogsInSections(recent, sections);
+            for (MinuteBucketRecorder.PendingMinute minute : recent) {
+                if (inSections != null && !inSections.contains(minute.blogId()))
+                    continue;
+                add(points, Granularity.HOUR.truncate(minute.minute()), minute.get(EngagementMetric.VIEWS),
+                        minute.get(EngagementMetric.LIKES), minute.get(EngagementMetric.DISLIKES),
+                        minute.get(EngagementMetric.COMMENTS));
+            }
+        }
+
+        List<EngagementSeriesResponse.Point> series = new ArrayList<>(points.values());
+        EngagementSeriesResponse.Point totals = EngagementSeriesResponse.Point.builder().build();
+        for (EngagementSeriesResponse.Point point : series) {
+            totals.setViews(totals.getViews() + point.getViews());
+            totals.setLikes(totals.getLikes() + point.getLikes());
+            totals.setDislikes(totals.getDislikes() + point.getDislikes());
+            totals.setComments(totals.getComments() + point.getComments());
+        }
+
+        return EngagementSeriesResponse.builder()
+                .granularity(granularity)
+                .from(start)
+                .to(end)
+                .blogIds(blogs)
+                .sectionIds(sections)
+                .totals(totals)
+                .points(series)
+                .build();
+    }
+
+    private static void add(Map<LocalDateTime, EngagementSeriesResponse.Point> points, LocalDateTime bucketStart,
+            long views, long likes, long dislikes, long comments) {
+        EngagementSeriesResponse.Point point = points.computeIfAbsent(bucketStart,
+                start -> EngagementSeriesResponse.Point.builder().bucketStart(start).build());
+        point.setViews(point.getViews() + views);
+        point.setLikes(point.getLikes() + likes);
+        point.setDislikes(point.getDislikes() + dislikes);
+        point.setComments(point.getComments() + comments);
+    }
+
+    private Set<String> blogsInSections(List<MinuteBucketRecorder.PendingMinute> recent, List<String> sectionIds) {
+        if (recent.isEmpty())
+            return Set.of();
+        Set<String> blogIds = recent.stream()
+                .map(MinuteBucketRecorder.PendingMinute::blogId)
+                .collect(Collectors.toSet());
+        Query query = new Query(Criteria.where("id").in(blogIds).and("sectionId").in(sectionIds));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, BlogPost.class).stream()
+                .map(BlogPost::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private static long longValue(Document row, EngagementMetric metric) {
+        Number value = row.get(metric.field(), Number.class);
+        return value != null ? value.longValue() : 0L;
+    }
+
+    // Raw aggregation results carry BSON dates
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime time)
+            return time;
+        return mongoTemplate.getConverter().getConversionService().convert(value, LocalDateTime.class);
+    }
+}
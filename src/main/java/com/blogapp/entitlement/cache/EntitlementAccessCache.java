@@ -0,0 +1,62 @@
+package com.blogapp.entitlement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Per-user {@link EntitlementAccessIndex}, built on first use.
+ *
+ * An entry expires at the earliest end date among the entitlements it was
+ * built from (or after the configured TTL, whichever comes first), so an
+ * expired subscription never keeps granting access.
+ */
+@Component
+public class EntitlementAccessCache {
+
+    private final Cache<String, EntitlementAccessIndex> cache;
+
+    public EntitlementAccessCache(
+            @Value("${blog.entitlement.access-cache-ttl-minutes:30}") long ttlMinutes,
+            @Value("${blog.entitlement.access-cache-max-entries:10000}") long maxEntries) {
+        long maxTtlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, EntitlementAccessIndex>() {
+                    @Override
+                    public long expireAfterCreate(String userId, EntitlementAccessIndex index, long currentTime) {
+                        if (index.validUntil() == null)
+                            return maxTtlNanos;
+                        long untilExpiry = Duration.between(LocalDateTime.now(), index.validUntil()).toNanos();
+                        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String userId, EntitlementAccessIndex index, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(userId, index, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String userId, EntitlementAccessIndex index, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public EntitlementAccessIndex get(String userId, Function<String, EntitlementAccessIndex> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+}
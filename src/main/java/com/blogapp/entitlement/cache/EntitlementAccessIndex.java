@@ -0,0 +1,61 @@
+package com.blogapp.entitlement.cache;
+
+import com.blogapp.entitlement.entity.Entitlement;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A user's active entitlements compiled for constant-time access checks.
+ *
+ * @param allAccess     holds a SUBSCRIPTION_ALL entitlement
+ * @param sectionIds    sections covered by SUBSCRIPTION_SECTION
+ * @param subsectionIds subsections covered by SUBSCRIPTION_SUBSECTION
+ * @param blogIds       blogs bought with PER_BLOG
+ * @param validUntil    earliest end of any included entitlement (null if none
+ *                      ends); the index must not be used past this point
+ */
+public record EntitlementAccessIndex(
+        boolean allAccess,
+        Set<String> sectionIds,
+        Set<String> subsectionIds,
+        Set<String> blogIds,
+        LocalDateTime validUntil) {
+
+    public static EntitlementAccessIndex of(Collection<Entitlement> activeEntitlements) {
+        boolean allAccess = false;
+        Set<String> sectionIds = new HashSet<>();
+        Set<String> subsectionIds = new HashSet<>();
+        Set<String> blogIds = new HashSet<>();
+        LocalDateTime validUntil = null;
+
+        for (Entitlement e : activeEntitlements) {
+            switch (e.getType()) {
+                case SUBSCRIPTION_ALL -> allAccess = true;
+                case SUBSCRIPTION_SECTION -> addIfPresent(sectionIds, e.getScopeId());
+                case SUBSCRIPTION_SUBSECTION -> addIfPresent(subsectionIds, e.getScopeId());
+                case PER_BLOG -> addIfPresent(blogIds, e.getBlogId());
+            }
+            if (e.getEndAt() != null && (validUntil == null || e.getEndAt().isBefore(validUntil))) {
+                validUntil = e.getEndAt();
+            }
+        }
+
+        return new EntitlementAccessIndex(allAccess, Set.copyOf(sectionIds), Set.copyOf(subsectionIds),
+                Set.copyOf(blogIds), validUntil);
+    }
+
+    public boolean allows(String blogId, String sectionId, String subsectionId) {
+        return allAccess
+                || (blogId != null && blogIds.contains(blogId))
+                || (subsectionId != null && subsectionIds.contains(subsectionId))
+                || (sectionId != null && sectionIds.contains(sectionId));
+    }
+
+    private static void addIfPresent(Set<String> ids, String id) {
+        if (id != null)
+            ids.add(id);
+    }
+}
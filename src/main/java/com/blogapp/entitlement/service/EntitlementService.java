@@ -4,7 +4,9 @@ import com.blogapp.entitlement.entity.Entitlement;
 import com.blogapp.entitlement.enums.EntitlementType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface EntitlementService {
 
@@ -15,6 +17,13 @@ public interface EntitlementService {
      */
     boolean hasAccess(String userId, String blogId, String sectionId, String subsectionId);
 
+    /**
+     * Batch form of {@link #hasAccess(String, String, String, String)} for a
+     * page of blogs, keyed by blog id. Loads the user's entitlements at most
+     * once.
+     */
+    Map<String, Boolean> hasAccess(String userId, Collection<BlogRef> blogs);
+
     /**
      * Get all active entitlements for a user.
      */
@@ -26,4 +35,10 @@ public interface EntitlementService {
     Entitlement grant(String userId, EntitlementType type, String scopeId,
             String blogId, String paymentId,
             LocalDateTime startAt, LocalDateTime endAt);
+
+    /**
+     * A blog and the taxonomy it sits in, for access checks.
+     */
+    record BlogRef(String blogId, String sectionId, String subsectionId) {
+    }
 }
@@ -1,5 +1,7 @@
 package com.blogapp.entitlement.service.impl;
 
+import com.blogapp.entitlement.cache.EntitlementAccessCache;
+import com.blogapp.entitlement.cache.EntitlementAccessIndex;
 import com.blogapp.entitlement.entity.Entitlement;
 import com.blogapp.entitlement.enums.EntitlementType;
 import com.blogapp.entitlement.repository.EntitlementRepository;
@@ -9,7 +11,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,36 +23,33 @@ import java.util.stream.Collectors;
 public class EntitlementServiceImpl implements EntitlementService {
 
     private final EntitlementRepository entitlementRepository;
+    private final EntitlementAccessCache entitlementAccessCache;
 
     @Override
     public boolean hasAccess(String userId, String blogId, String sectionId, String subsectionId) {
         if (userId == null)
             return false;
 
-        List<Entitlement> entitlements = getActiveEntitlements(userId);
-
-        for (Entitlement e : entitlements) {
-            switch (e.getType()) {
-                case SUBSCRIPTION_ALL:
-                    return true;
-
-                case SUBSCRIPTION_SECTION:
-                    if (sectionId != null && sectionId.equals(e.getScopeId()))
-                        return true;
-                    break;
+        return accessIndex(userId).allows(blogId, sectionId, subsectionId);
+    }
 
-                case SUBSCRIPTION_SUBSECTION:
-                    if (subsectionId != null && subsectionId.equals(e.getScopeId()))
-                        return true;
-                    break;
+    @Override
+    public Map<String, Boolean> hasAccess(String userId, Collection<BlogRef> blogs) {
+        Map<String, Boolean> access = new HashMap<>();
+        if (blogs.isEmpty())
+            return access;
 
-                case PER_BLOG:
-                    if (blogId != null && blogId.equals(e.getBlogId()))
-                        return true;
-                    break;
-            }
+        EntitlementAccessIndex index = userId != null ? accessIndex(userId) : null;
+        for (BlogRef blog : blogs) {
+            access.put(blog.blogId(),
+                    index != null && index.allows(blog.blogId(), blog.sectionId(), blog.subsectionId()));
         }
-        return false;
+        return access;
+    }
+
+    private EntitlementAccessIndex accessIndex(String userId) {
+        return entitlementAccessCache.get(userId,
+                id -> EntitlementAccessIndex.of(getActiveEntitlements(id)));
     }
 
     @Override
@@ -74,6 +76,8 @@ public class EntitlementServiceImpl implements EntitlementService {
 
         log.info("Granting entitlement: type={}, userId={}, scopeId={}, blogId={}",
                 type, userId, scopeId, blogId);
-        return entitlementRepository.save(entitlement);
+        Entitlement saved = entitlementRepository.save(entitlement);
+        entitlementAccessCache.invalidate(userId);
+        return saved;
     }
 }
@@ -1,5 +1,8 @@
 package com.blogapp.payment.controller;
 
+import com.blogapp.common.http.HttpCaching;
+import com.blogapp.common.http.ResourceVersions;
+import com.blogapp.common.http.SurrogateKeys;
 import com.blogapp.payment.config.PricingConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -8,8 +11,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -19,10 +24,18 @@ import java.util.Map;
 public class PricingController {
 
     private final PricingConfig pricingConfig;
+    private final HttpCaching httpCaching;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping
     @Operation(summary = "Get pricing plans", description = "Returns all available pricing plans with base prices and duration discounts")
-    public ResponseEntity<Map<String, Object>> getPricing() {
+    public ResponseEntity<Map<String, Object>> getPricing(WebRequest request) {
+        ResourceVersions.Version version = resourceVersions.current(SurrogateKeys.PRICING);
+        return httpCaching.respond(request, HttpCaching.Audience.EVERYONE, List.of(SurrogateKeys.PRICING),
+                "pricing:" + version.tag(), version.lastModified(), this::buildPricing);
+    }
+
+    private Map<String, Object> buildPricing() {
         Map<String, Object> pricing = new LinkedHashMap<>();
 
         // Per-blog
@@ -45,7 +58,7 @@ public class PricingController {
 
         pricing.put("durationDiscounts", pricingConfig.getDurationDiscounts());
 
-        return ResponseEntity.ok(pricing);
+        return pricing;
     }
 
     private Map<String, Object> buildSubscriptionPlan(String label, long monthlyPaise) {
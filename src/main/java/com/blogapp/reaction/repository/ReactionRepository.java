@@ -5,7 +5,6 @@ import com.blogapp.reaction.enums.ReactionType;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -15,7 +14,5 @@ public interface ReactionRepository extends MongoRepository<BlogReaction, String
 
     long countByBlogIdAndReactionType(String blogId, ReactionType reactionType);
 
-    long countByVisitorKeyAndCreatedAtAfter(String visitorKey, LocalDateTime after);
-
     void deleteByBlogIdAndVisitorKey(String blogId, String visitorKey);
 }
@@ -1,9 +1,14 @@
 package com.blogapp.reaction.service.impl;
 
 import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.BlogPostCounters;
+import com.blogapp.blog.repository.BlogPostCounterRepository;
 import com.blogapp.blog.repository.BlogPostRepository;
 import com.blogapp.common.exception.RateLimitException;
 import com.blogapp.common.exception.ResourceNotFoundException;
+import com.blogapp.common.ratelimit.RateLimiter;
+import com.blogapp.engagement.enums.EngagementMetric;
+import com.blogapp.engagement.recorder.EngagementRecorder;
 import com.blogapp.reaction.dto.request.ReactionRequest;
 import com.blogapp.reaction.dto.response.ReactionResponse;
 import com.blogapp.reaction.entity.BlogReaction;
@@ -18,8 +23,9 @@ import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -30,6 +36,8 @@ public class ReactionServiceImpl implements ReactionService {
     private final ReactionRepository reactionRepository;
     private final BlogPostRepository blogPostRepository;
     private final ReactionMapper reactionMapper;
+    private final RateLimiter rateLimiter;
+    private final EngagementRecorder engagementRecorder;
 
     @Value("${blog.rate-limit.reactions-per-minute:10}")
     private int reactionsPerMinute;
@@ -37,21 +45,21 @@ public class ReactionServiceImpl implements ReactionService {
     @Override
     public ReactionResponse toggleReaction(String blogId, ReactionRequest request, String ipAddress) {
         // Verify blog exists
-        BlogPost blog = blogPostRepository.findById(blogId)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", blogId));
+        if (!blogPostRepository.existsById(blogId)) {
+            throw new ResourceNotFoundException("Blog", "id", blogId);
+        }
 
         String visitorKey = request.getVisitorKey();
 
         // Rate limit check
-        long recentReactions = reactionRepository.countByVisitorKeyAndCreatedAtAfter(
-                visitorKey, LocalDateTime.now().minusMinutes(1));
-        if (recentReactions >= reactionsPerMinute) {
+        if (!rateLimiter.tryAcquire("reaction:" + visitorKey, reactionsPerMinute, Duration.ofMinutes(1))) {
             throw new RateLimitException("Too many reactions. Please wait before trying again.");
         }
 
         Optional<BlogReaction> existingReaction = reactionRepository.findByBlogIdAndVisitorKey(blogId, visitorKey);
         String action;
         ReactionType currentReaction;
+        Map<String, Integer> counterDeltas;
 
         if (existingReaction.isPresent()) {
             BlogReaction reaction = existingReaction.get();
@@ -62,11 +70,7 @@ public class ReactionServiceImpl implements ReactionService {
                 currentReaction = null;
 
                 // Update blog counters
-                if (request.getReactionType() == ReactionType.LIKE) {
-                    blog.setLikesCount(Math.max(0, blog.getLikesCount() - 1));
-                } else {
-                    blog.setDislikesCount(Math.max(0, blog.getDislikesCount() - 1));
-                }
+                counterDeltas = Map.of(counterField(request.getReactionType()), -1);
             } else {
                 // Different reaction → switch
                 ReactionType oldType = reaction.getReactionType();
@@ -76,13 +80,9 @@ public class ReactionServiceImpl implements ReactionService {
                 currentReaction = request.getReactionType();
 
                 // Update blog counters — decrement old, increment new
-                if (oldType == ReactionType.LIKE) {
-                    blog.setLikesCount(Math.max(0, blog.getLikesCount() - 1));
-                    blog.setDislikesCount(blog.getDislikesCount() + 1);
-                } else {
-                    blog.setDislikesCount(Math.max(0, blog.getDislikesCount() - 1));
-                    blog.setLikesCount(blog.getLikesCount() + 1);
-                }
+                counterDeltas = Map.of(
+                        counterField(oldType), -1,
+                        counterField(request.getReactionType()), 1);
             }
         } else {
             // New reaction
@@ -98,16 +98,15 @@ public class ReactionServiceImpl implements ReactionService {
             currentReaction = request.getReactionType();
 
             // Update blog counters
-            if (request.getReactionType() == ReactionType.LIKE) {
-                blog.setLikesCount(blog.getLikesCount() + 1);
-            } else {
-                blog.setDislikesCount(blog.getDislikesCount() + 1);
-            }
+            counterDeltas = Map.of(counterField(request.getReactionType()), 1);
         }
 
-        blogPostRepository.save(blog);
+        BlogPostCounters counters = blogPostRepository.incrementCounters(blogId, counterDeltas)
+                .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", blogId));
+        counters.getAppliedDeltas().forEach((field, delta) -> engagementRecorder.record(blogId,
+                EngagementMetric.ofCounterField(field), delta));
 
-        return reactionMapper.toResponse(blogId, blog.getLikesCount(), blog.getDislikesCount(),
+        return reactionMapper.toResponse(blogId, counters.getLikesCount(), counters.getDislikesCount(),
                 currentReaction, action);
     }
 
@@ -126,6 +125,10 @@ public class ReactionServiceImpl implements ReactionService {
                 userReaction, null);
     }
 
+    private String counterField(ReactionType type) {
+        return type == ReactionType.LIKE ? BlogPostCounterRepository.LIKES : BlogPostCounterRepository.DISLIKES;
+    }
+
     private String hashIp(String ip) {
         if (ip == null)
             return null;
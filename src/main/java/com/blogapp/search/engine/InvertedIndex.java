@@ -0,0 +1,161 @@
+package com.blogapp.search.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index with BM25 ranking.
+ *
+ * Postings hold a field-weighted term frequency per document, so a hit in
+ * the title counts more than a hit in the body. Reads share a lock and run
+ * concurrently; writes (one document at a time) take the exclusive lock.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Weight applied to expanded prefix matches of the last query term
+    private static final double PREFIX_WEIGHT = 0.5;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<String, Double>> postings = new TreeMap<>();
+    private final Map<String, IndexedDocument> documents = new HashMap<>();
+    private double totalLength;
+
+    /**
+     * A document as seen by the index: the filterable attributes plus the
+     * weighted term frequencies used to build (and later remove) postings.
+     */
+    public record IndexedDocument(String id, String sectionId, String subsectionId,
+            Integer year, Integer month, Map<String, Double> termWeights, double length) {
+    }
+
+    /**
+     * Insert or replace a document.
+     */
+    public void put(IndexedDocument doc) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(doc.id());
+            documents.put(doc.id(), doc);
+            totalLength += doc.length();
+            doc.termWeights().forEach((term, weight) -> postings
+                    .computeIfAbsent(term, t -> new HashMap<>())
+                    .put(doc.id(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank documents matching any of the query terms. The last term is also
+     * expanded as a prefix so partially typed words still match.
+     *
+     * @return matching document ids, best match first
+     */
+    public List<String> search(List<String> queryTerms, Predicate<IndexedDocument> filter) {
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+
+            Map<String, Double> queryWeights = new HashMap<>();
+            for (String term : queryTerms) {
+                queryWeights.merge(term, 1.0, Double::sum);
+            }
+            expandPrefix(queryTerms.get(queryTerms.size() - 1), queryWeights);
+
+            double avgLength = totalLength / documents.size();
+            Map<String, Double> scores = new HashMap<>();
+
+            for (Map.Entry<String, Double> q : queryWeights.entrySet()) {
+                Map<String, Double> termPostings = postings.get(q.getKey());
+                if (termPostings == null)
+                    continue;
+
+                double idf = idf(termPostings.size());
+                for (Map.Entry<String, Double> posting : termPostings.entrySet()) {
+                    IndexedDocument doc = documents.get(posting.getKey());
+                    if (doc == null || !filter.test(doc))
+                        continue;
+
+                    double tf = posting.getValue();
+                    double norm = tf + K1 * (1 - B + B * doc.length() / avgLength);
+                    double score = q.getValue() * idf * (tf * (K1 + 1)) / norm;
+                    scores.merge(doc.id(), score, Double::sum);
+                }
+            }
+
+            List<Map.Entry<String, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+            return ranked.stream().map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void expandPrefix(String prefix, Map<String, Double> queryWeights) {
+        if (prefix.length() < 3)
+            return;
+        int expanded = 0;
+        for (String term : postings.tailMap(prefix, false).keySet()) {
+            if (!term.startsWith(prefix) || expanded++ >= MAX_PREFIX_EXPANSIONS)
+                break;
+            queryWeights.putIfAbsent(term, PREFIX_WEIGHT);
+        }
+    }
+
+    private double idf(int docFrequency) {
+        int n = documents.size();
+        return Math.log(1 + (n - docFrequency + 0.5) / (docFrequency + 0.5));
+    }
+
+    private void removeInternal(String id) {
+        IndexedDocument existing = documents.remove(id);
+        if (existing == null)
+            return;
+        totalLength -= existing.length();
+        for (String term : existing.termWeights().keySet()) {
+            Map<String, Double> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(id);
+                if (termPostings.isEmpty())
+                    postings.remove(term);
+            }
+        }
+    }
+}
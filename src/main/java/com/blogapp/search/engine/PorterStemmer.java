@@ -0,0 +1,283 @@
+package com.blogapp.search.engine;
+
+/**
+ * Porter (1980) suffix-stripping stemmer for English words.
+ *
+ * Only lower-case ASCII words are stemmed — anything else (numbers, mixed
+ * scripts) is returned unchanged so it can still be matched exactly.
+ */
+public final class PorterStemmer {
+
+    private final char[] b;
+    private int k; // end of the current stem
+    private int j; // general offset into the stem
+
+    private PorterStemmer(String word) {
+        this.b = new char[word.length() + 2];
+        word.getChars(0, word.length(), b, 0);
+        this.k = word.length() - 1;
+    }
+
+    public static String stem(String word) {
+        if (word == null || word.length() <= 2 || !isAsciiLowerWord(word)) {
+            return word;
+        }
+        PorterStemmer s = new PorterStemmer(word);
+        s.step1();
+        s.step2();
+        s.step3();
+        s.step4();
+        s.step5();
+        s.step6();
+        return new String(s.b, 0, s.k + 1);
+    }
+
+    private static boolean isAsciiLowerWord(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z')
+                return false;
+        }
+        return true;
+    }
+
+    // ===================== Helpers =====================
+
+    private boolean cons(int i) {
+        switch (b[i]) {
+            case 'a', 'e', 'i', 'o', 'u':
+                return false;
+            case 'y':
+                return i == 0 || !cons(i - 1);
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Number of consonant-vowel sequences between 0 and j.
+     */
+    private int m() {
+        int n = 0;
+        int i = 0;
+        while (true) {
+            if (i > j)
+                return n;
+            if (!cons(i))
+                break;
+            i++;
+        }
+        i++;
+        while (true) {
+            while (true) {
+                if (i > j)
+                    return n;
+                if (cons(i))
+                    break;
+                i++;
+            }
+            i++;
+            n++;
+            while (true) {
+                if (i > j)
+                    return n;
+                if (!cons(i))
+                    break;
+                i++;
+            }
+            i++;
+        }
+    }
+
+    private boolean vowelInStem() {
+        for (int i = 0; i <= j; i++) {
+            if (!cons(i))
+                return true;
+        }
+        return false;
+    }
+
+    private boolean doubleConsonant(int i) {
+        return i >= 1 && b[i] == b[i - 1] && cons(i);
+    }
+
+    private boolean cvc(int i) {
+        if (i < 2 || !cons(i) || cons(i - 1) || !cons(i - 2))
+            return false;
+        char ch = b[i];
+        return ch != 'w' && ch != 'x' && ch != 'y';
+    }
+
+    private boolean ends(String s) {
+        int l = s.length();
+        int o = k - l + 1;
+        if (o < 0)
+            return false;
+        for (int i = 0; i < l; i++) {
+            if (b[o + i] != s.charAt(i))
+                return false;
+        }
+        j = k - l;
+        return true;
+    }
+
+    private void setTo(String s) {
+        int l = s.length();
+        int o = j + 1;
+        for (int i = 0; i < l; i++) {
+            b[o + i] = s.charAt(i);
+        }
+        k = j + l;
+    }
+
+    private void replace(String s) {
+        if (m() > 0)
+            setTo(s);
+    }
+
+    // ===================== Steps =====================
+
+    /** Plurals and -ed / -ing. */
+    private void step1() {
+        if (b[k] == 's') {
+            if (ends("sses")) {
+                k -= 2;
+            } else if (ends("ies")) {
+                setTo("i");
+            } else if (b[k - 1] != 's') {
+                k--;
+            }
+        }
+        if (ends("eed")) {
+            if (m() > 0)
+                k--;
+        } else if ((ends("ed") || ends("ing")) && vowelInStem()) {
+            k = j;
+            if (ends("at")) {
+                setTo("ate");
+            } else if (ends("bl")) {
+                setTo("ble");
+            } else if (ends("iz")) {
+                setTo("ize");
+            } else if (doubleConsonant(k)) {
+                k--;
+                char ch = b[k];
+                if (ch == 'l' || ch == 's' || ch == 'z')
+                    k++;
+            } else if (m() == 1 && cvc(k)) {
+                setTo("e");
+            }
+        }
+    }
+
+    /** Terminal y → i when there is another vowel in the stem. */
+    private void step2() {
+        if (ends("y") && vowelInStem())
+            b[k] = 'i';
+    }
+
+    /** Double suffixes map to single ones (-ization → -ize, ...). */
+    private void step3() {
+        if (k == 0)
+            return;
+        switch (b[k - 1]) {
+            case 'a' -> {
+                if (ends("ational")) replace("ate");
+                else if (ends("tional")) replace("tion");
+            }
+            case 'c' -> {
+                if (ends("enci")) replace("ence");
+                else if (ends("anci")) replace("ance");
+            }
+            case 'e' -> {
+                if (ends("izer")) replace("ize");
+            }
+            case 'l' -> {
+                if (ends("bli")) replace("ble");
+                else if (ends("alli")) replace("al");
+                else if (ends("entli")) replace("ent");
+                else if (ends("eli")) replace("e");
+                else if (ends("ousli")) replace("ous");
+            }
+            case 'o' -> {
+                if (ends("ization")) replace("ize");
+                else if (ends("ation")) replace("ate");
+                else if (ends("ator")) replace("ate");
+            }
+            case 's' -> {
+                if (ends("alism")) replace("al");
+                else if (ends("iveness")) replace("ive");
+                else if (ends("fulness")) replace("ful");
+                else if (ends("ousness")) replace("ous");
+            }
+            case 't' -> {
+                if (ends("aliti")) replace("al");
+                else if (ends("iviti")) replace("ive");
+                else if (ends("biliti")) replace("ble");
+            }
+            case 'g' -> {
+                if (ends("logi")) replace("log");
+            }
+            default -> {
+            }
+        }
+    }
+
+    /** -ic-, -full, -ness etc. */
+    private void step4() {
+        switch (b[k]) {
+            case 'e' -> {
+                if (ends("icate")) replace("ic");
+                else if (ends("ative")) replace("");
+                else if (ends("alize")) replace("al");
+            }
+            case 'i' -> {
+                if (ends("iciti")) replace("ic");
+            }
+            case 'l' -> {
+                if (ends("ical")) replace("ic");
+                else if (ends("ful")) replace("");
+            }
+            case 's' -> {
+                if (ends("ness")) replace("");
+            }
+            default -> {
+            }
+        }
+    }
+
+    /** -ant, -ence etc. in context <c>vcvc<v>. */
+    private void step5() {
+        if (k == 0)
+            return;
+        boolean matched = switch (b[k - 1]) {
+            case 'a' -> ends("al");
+            case 'c' -> ends("ance") || ends("ence");
+            case 'e' -> ends("er");
+            case 'i' -> ends("ic");
+            case 'l' -> ends("able") || ends("ible");
+            case 'n' -> ends("ant") || ends("ement") || ends("ment") || ends("ent");
+            case 'o' -> (ends("ion") && j >= 0 && (b[j] == 's' || b[j] == 't')) || ends("ou");
+            case 's' -> ends("ism");
+            case 't' -> ends("ate") || ends("iti");
+            case 'u' -> ends("ous");
+            case 'v' -> ends("ive");
+            case 'z' -> ends("ize");
+            default -> false;
+        };
+        if (matched && m() > 1)
+            k = j;
+    }
+
+    /** Remove a final -e and reduce -ll when m() > 1. */
+    private void step6() {
+        j = k;
+        if (b[k] == 'e') {
+            int a = m();
+            if (a > 1 || a == 1 && !cvc(k - 1))
+                k--;
+        }
+        if (b[k] == 'l' && doubleConsonant(k) && m() > 1)
+            k--;
+    }
+}
@@ -0,0 +1,53 @@
+package com.blogapp.search.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns free text into index terms: splits on anything that is not a letter
+ * or digit, lower-cases, drops stop words and applies the Porter stemmer.
+ *
+ * The same analyzer is used for documents and queries so both sides agree
+ * on what a term is.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from",
+            "if", "in", "into", "is", "it", "its", "no", "not", "of", "on", "or",
+            "so", "such", "that", "the", "their", "then", "there", "these", "they",
+            "this", "to", "was", "were", "will", "with");
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String token) {
+        if (token.length() < 2 && !Character.isDigit(token.charAt(0)))
+            return;
+        if (STOP_WORDS.contains(token))
+            return;
+        terms.add(PorterStemmer.stem(token));
+    }
+}
@@ -0,0 +1,36 @@
+package com.blogapp.search.service;
+
+import com.blogapp.blog.entity.BlogPost;
+
+import java.util.List;
+
+public interface BlogSearchService {
+
+    /**
+     * Rank published blogs matching the query (title, excerpt, tags and body
+     * text), restricted to the given filter.
+     *
+     * @return blog ids, best match first
+     */
+    List<String> search(String query, Filter filter);
+
+    /**
+     * Add, replace or drop a blog in the index depending on its current
+     * status. Only PUBLISHED blogs are searchable.
+     */
+    void index(BlogPost blog);
+
+    void remove(String blogId);
+
+    /**
+     * Rebuild the whole index from MongoDB.
+     */
+    void rebuild();
+
+    /**
+     * Optional listing filters applied inside the index. Null fields match
+     * everything.
+     */
+    record Filter(String sectionId, String subsectionId, Integer year, Integer month) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.blogapp.search.service.impl;
+
+import com.blogapp.blog.entity.BlogContent;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.service.BlogContentService;
+import com.blogapp.common.util.HtmlSanitizer;
+import com.blogapp.search.engine.InvertedIndex;
+import com.blogapp.search.engine.TextAnalyzer;
+import com.blogapp.search.service.BlogSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlogSearchServiceImpl implements BlogSearchService {
+
+    // Field boosts — same ratios as the text index weights on BlogPost
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double EXCERPT_WEIGHT = 2.0;
+    private static final double TAG_WEIGHT = 2.0;
+    private static final double BODY_WEIGHT = 1.0;
+
+    // Bodies are loaded from blog_contents in batches of this size during rebuild
+    private static final int REBUILD_BATCH_SIZE = 200;
+
+    // A document to (re)index, or a removal when document is null
+    private record Change(String blogId, InvertedIndex.IndexedDocument document) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final BlogContentService blogContentService;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    // Non-null while a rebuild is running; guarded by this
+    private List<Change> changesDuringRebuild;
+
+    @Override
+    public List<String> search(String query, Filter filter) {
+        List<String> terms = TextAnalyzer.analyze(query);
+        return index.search(terms, doc -> matches(doc, filter));
+    }
+
+    @Override
+    public void index(BlogPost blog) {
+        if (blog.getStatus() != BlogStatus.PUBLISHED) {
+            apply(new Change(blog.getId(), null));
+            return;
+        }
+        apply(new Change(blog.getId(), toIndexedDocument(blogContentService.resolveContent(blog))));
+    }
+
+    @Override
+    public void remove(String blogId) {
+        apply(new Change(blogId, null));
+    }
+
+    private synchronized void apply(Change change) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+        apply(index, change);
+    }
+
+    private static void apply(InvertedIndex target, Change change) {
+        if (change.document() == null) {
+            target.remove(change.blogId());
+        } else {
+            target.put(change.document());
+        }
+    }
+
+    /**
+     * Runs once the application (including seed data) is ready. The new index
+     * is built off to the side and swapped in, so searches keep working
+     * against the old one meanwhile. Writes made during the rebuild are
+     * replayed onto the new index before the swap.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        InvertedIndex fresh = new InvertedIndex();
+        try {
+            Query query = new Query(Criteria.where("status").is(BlogStatus.PUBLISHED.name()));
+            List<BlogPost> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+            try (Stream<BlogPost> blogs = mongoTemplate.stream(query, BlogPost.class)) {
+                blogs.forEach(blog -> {
+                    batch.add(blog);
+                    if (batch.size() == REBUILD_BATCH_SIZE) {
+                        indexBatch(fresh, batch);
+                    }
+                });
+            }
+            indexBatch(fresh, batch);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            changesDuringRebuild.forEach(change -> apply(fresh, change));
+            changesDuringRebuild = null;
+            index = fresh;
+        }
+        log.info("Search index rebuilt: {} published blogs in {} ms",
+                fresh.size(), System.currentTimeMillis() - start);
+    }
+
+    private void indexBatch(InvertedIndex target, List<BlogPost> batch) {
+        Map<String, BlogContent> contents = blogContentService.findAllById(batch.stream()
+                .map(BlogPost::getContentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        for (BlogPost blog : batch) {
+            BlogContent content = contents.get(blog.getContentId());
+            if (content != null) {
+                blog.setContentHtml(content.getHtml());
+            }
+            target.put(toIndexedDocument(blog));
+        }
+        batch.clear();
+    }
+
+    private InvertedIndex.IndexedDocument toIndexedDocument(BlogPost blog) {
+        Map<String, Double> weights = new HashMap<>();
+        double length = 0;
+        length += addField(weights, blog.getTitle(), TITLE_WEIGHT);
+        length += addField(weights, blog.getExcerpt(), EXCERPT_WEIGHT);
+        if (blog.getTags() != null) {
+            for (String tag : blog.getTags()) {
+                length += addField(weights, tag, TAG_WEIGHT);
+            }
+        }
+        length += addField(weights, HtmlSanitizer.toPlainText(blog.getContentHtml()), BODY_WEIGHT);
+
+        return new InvertedIndex.IndexedDocument(blog.getId(), blog.getSectionId(), blog.getSubsectionId(),
+                blog.getYear(), blog.getMonth(), weights, length);
+    }
+
+    private double addField(Map<String, Double> weights, String text, double weight) {
+        List<String> terms = TextAnalyzer.analyze(text);
+        for (String term : terms) {
+            weights.merge(term, weight, Double::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    private boolean matches(InvertedIndex.IndexedDocument doc, Filter filter) {
+        if (filter == null)
+            return true;
+        return (isBlank(filter.sectionId()) || filter.sectionId().equals(doc.sectionId()))
+                && (isBlank(filter.subsectionId()) || filter.subsectionId().equals(doc.subsectionId()))
+                && (filter.year() == null || Objects.equals(filter.year(), doc.year()))
+                && (filter.month() == null || Objects.equals(filter.month(), doc.month()));
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
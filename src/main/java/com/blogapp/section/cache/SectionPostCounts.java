@@ -0,0 +1,157 @@
+package com.blogapp.section.cache;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogPostChangedEvent;
+import com.blogapp.common.http.ResourceVersions;
+import com.blogapp.common.http.SurrogateKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Published post counts per section and per subsection, held in memory.
+ *
+ * Built when the application is ready from the placement of every published
+ * post, then kept current from {@link BlogPostChangedEvent}s. Each post's
+ * placement is kept, so a change sets that post's state rather than adding a
+ * delta; changes made while a periodic rebuild (drift correction, e.g. for
+ * writes made by another instance) runs are replayed onto the new counts
+ * before they are swapped in. Rebuilds only invalidate cached responses when
+ * a count actually changed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SectionPostCounts {
+
+    // A post's placement after a change; null state = no longer published
+    private record Change(String blogId, BlogPostChangedEvent.State state) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final ResourceVersions resourceVersions;
+
+    private volatile Counts counts = new Counts();
+    // Non-null while a rebuild is running; guarded by this
+    private List<Change> changesDuringRebuild;
+
+    public long sectionCount(String sectionId) {
+        return counts.get(counts.bySection, sectionId);
+    }
+
+    public long subsectionCount(String subsectionId) {
+        return counts.get(counts.bySubsection, subsectionId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${blog.sections.count-resync-ms:3600000}",
+            initialDelayString = "${blog.sections.count-resync-ms:3600000}")
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        Counts fresh = new Counts();
+        try {
+            Query query = new Query(Criteria.where("status").is(BlogStatus.PUBLISHED.name()));
+            query.fields().include("status", "sectionId", "subsectionId", "year", "month");
+            try (Stream<BlogPost> blogs = mongoTemplate.stream(query, BlogPost.class)) {
+                blogs.forEach(blog -> fresh.put(blog.getId(), BlogPostChangedEvent.State.of(blog)));
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        boolean changed;
+        synchronized (this) {
+            changesDuringRebuild.forEach(change -> fresh.put(change.blogId(), change.state()));
+            changesDuringRebuild = null;
+            changed = !fresh.totals().equals(counts.totals());
+            counts = fresh;
+        }
+        if (changed) {
+            // Drift corrections change responses too
+            resourceVersions.bump(SurrogateKeys.BLOGS);
+        }
+        log.debug("Section post counts rebuilt: {} sections, changed: {}", fresh.bySection.size(), changed);
+    }
+
+    @EventListener
+    public synchronized void onBlogPostChanged(BlogPostChangedEvent event) {
+        Change change = new Change(event.blogId(), event.isPublished() ? event.after() : null);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+        counts.put(change.blogId(), change.state());
+    }
+
+    private static final class Counts {
+
+        private final Map<String, BlogPostChangedEvent.State> posts = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> bySection = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> bySubsection = new ConcurrentHashMap<>();
+
+        /**
+         * Set where a post is counted; a null state removes it.
+         */
+        void put(String blogId, BlogPostChangedEvent.State state) {
+            BlogPostChangedEvent.State previous = state != null ? posts.put(blogId, state) : posts.remove(blogId);
+            if (previous != null) {
+                add(previous, -1);
+            }
+            if (state != null) {
+                add(state, 1);
+            }
+        }
+
+        private void add(BlogPostChangedEvent.State state, long delta) {
+            if (state.sectionId() != null) {
+                bySection.computeIfAbsent(state.sectionId(), k -> new LongAdder()).add(delta);
+            }
+            if (state.subsectionId() != null) {
+                bySubsection.computeIfAbsent(state.subsectionId(), k -> new LongAdder()).add(delta);
+            }
+        }
+
+        long get(Map<String, LongAdder> map, String id) {
+            LongAdder adder = id != null ? map.get(id) : null;
+            return adder != null ? Math.max(0, adder.sum()) : 0;
+        }
+
+        /**
+         * Non-zero counts, for comparing two sets of counts.
+         */
+        Map<String, Long> totals() {
+            Map<String, Long> totals = new HashMap<>();
+            bySection.forEach((id, count) -> {
+                if (count.sum() > 0) {
+                    totals.put("section:" + id, count.sum());
+                }
+            });
+            bySubsection.forEach((id, count) -> {
+                if (count.sum() > 0) {
+                    totals.put("subsection:" + id, count.sum());
+                }
+            });
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.blogapp.section.cache;
+
+import com.blogapp.common.concurrent.SingleFlight;
+import com.blogapp.section.repository.SectionRepository;
+import com.blogapp.section.repository.SubsectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link TaxonomySnapshot}. Loaded once the application is
+ * ready (after seed data) and swapped atomically on every section or
+ * subsection write. Requests arriving before the first load share a single
+ * one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaxonomyCache {
+
+    private final SectionRepository sectionRepository;
+    private final SubsectionRepository subsectionRepository;
+    private final SingleFlight singleFlight;
+
+    private final AtomicReference<TaxonomySnapshot> current = new AtomicReference<>();
+
+    public TaxonomySnapshot snapshot() {
+        TaxonomySnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : singleFlight.execute("taxonomy", "snapshot", this::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Load and install a fresh snapshot. Reloads run one at a time, so one
+     * started after a write can't be overtaken by an older, slower one.
+     */
+    public synchronized TaxonomySnapshot reload() {
+        TaxonomySnapshot snapshot = TaxonomySnapshot.of(sectionRepository.findAll(), subsectionRepository.findAll());
+        current.set(snapshot);
+        log.debug("Taxonomy snapshot loaded: {} sections", snapshot.sections().size());
+        return snapshot;
+    }
+}
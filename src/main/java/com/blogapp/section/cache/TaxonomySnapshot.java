@@ -0,0 +1,93 @@
+package com.blogapp.section.cache;
+
+import com.blogapp.section.entity.Section;
+import com.blogapp.section.entity.Subsection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of all sections and subsections. A new snapshot is built
+ * whenever the taxonomy changes; readers never see a half-updated one.
+ *
+ * The entities inside are shared between all readers and must not be
+ * modified.
+ */
+public final class TaxonomySnapshot {
+
+    public static final TaxonomySnapshot EMPTY = new TaxonomySnapshot(List.of(), List.of());
+
+    private final List<Section> sections;
+    private final Map<String, Section> sectionsById;
+    private final Map<String, Section> sectionsBySlug;
+    private final Map<String, Subsection> subsectionsById;
+    private final Map<String, List<Subsection>> subsectionsBySectionId;
+    private final Map<String, Map<String, Subsection>> subsectionsBySectionIdAndSlug;
+
+    private TaxonomySnapshot(Collection<Section> sections, Collection<Subsection> subsections) {
+        this.sections = sections.stream()
+                .sorted(Comparator.comparingInt(Section::getSortOrder))
+                .toList();
+        this.sectionsById = this.sections.stream()
+                .collect(Collectors.toUnmodifiableMap(Section::getId, Function.identity()));
+        this.sectionsBySlug = this.sections.stream()
+                .collect(Collectors.toUnmodifiableMap(Section::getSlug, Function.identity(), (a, b) -> a));
+        this.subsectionsById = subsections.stream()
+                .collect(Collectors.toUnmodifiableMap(Subsection::getId, Function.identity()));
+
+        Map<String, List<Subsection>> children = new HashMap<>();
+        Map<String, Map<String, Subsection>> childrenBySlug = new HashMap<>();
+        subsections.stream()
+                .sorted(Comparator.comparingInt(Subsection::getSortOrder))
+                .forEach(sub -> {
+                    children.computeIfAbsent(sub.getSectionId(), k -> new ArrayList<>()).add(sub);
+                    childrenBySlug.computeIfAbsent(sub.getSectionId(), k -> new HashMap<>())
+                            .putIfAbsent(sub.getSlug(), sub);
+                });
+        this.subsectionsBySectionId = children.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> List.copyOf(e.getValue())));
+        this.subsectionsBySectionIdAndSlug = childrenBySlug.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> Map.copyOf(e.getValue())));
+    }
+
+    public static TaxonomySnapshot of(Collection<Section> sections, Collection<Subsection> subsections) {
+        return new TaxonomySnapshot(sections, subsections);
+    }
+
+    /**
+     * All sections, ordered by sortOrder.
+     */
+    public List<Section> sections() {
+        return sections;
+    }
+
+    public Section section(String id) {
+        return id != null ? sectionsById.get(id) : null;
+    }
+
+    public Optional<Section> sectionBySlug(String slug) {
+        return Optional.ofNullable(slug != null ? sectionsBySlug.get(slug) : null);
+    }
+
+    public Subsection subsection(String id) {
+        return id != null ? subsectionsById.get(id) : null;
+    }
+
+    /**
+     * Subsections of a section, ordered by sortOrder.
+     */
+    public List<Subsection> subsectionsOf(String sectionId) {
+        return subsectionsBySectionId.getOrDefault(sectionId, List.of());
+    }
+
+    public Optional<Subsection> subsectionBySlug(String sectionId, String slug) {
+        return Optional.ofNullable(subsectionsBySectionIdAndSlug.getOrDefault(sectionId, Map.of()).get(slug));
+    }
+}
@@ -1,5 +1,8 @@
 package com.blogapp.section.controller;
 
+import com.blogapp.common.http.HttpCaching;
+import com.blogapp.common.http.ResourceVersions;
+import com.blogapp.common.http.SurrogateKeys;
 import com.blogapp.section.dto.response.SectionResponse;
 import com.blogapp.section.dto.response.SubsectionResponse;
 import com.blogapp.section.service.SectionService;
@@ -9,8 +12,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/sections")
@@ -19,24 +25,51 @@ import java.util.List;
 public class SectionController {
 
     private final SectionService sectionService;
+    private final HttpCaching httpCaching;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping
     @Operation(summary = "Get all sections", description = "Returns all sections with their subsections, ordered by sortOrder")
-    public ResponseEntity<List<SectionResponse>> getAllSections() {
-        return ResponseEntity.ok(sectionService.getAllSections());
+    public ResponseEntity<List<SectionResponse>> getAllSections(WebRequest request) {
+        return respond(request, "all", sectionService::getAllSections);
+    }
+
+    @GetMapping("/tree")
+    @Operation(summary = "Get section tree", description = "Returns all sections with their subsections and the number of published posts in each")
+    public ResponseEntity<List<SectionResponse>> getSectionTree(WebRequest request) {
+        // Post counts change with the posts, not the taxonomy
+        ResourceVersions.Version sections = resourceVersions.current(SurrogateKeys.SECTIONS);
+        ResourceVersions.Version blogs = resourceVersions.current(SurrogateKeys.BLOGS);
+        Instant lastModified = sections.lastModified().isAfter(blogs.lastModified())
+                ? sections.lastModified()
+                : blogs.lastModified();
+        return httpCaching.respond(request, HttpCaching.Audience.EVERYONE, List.of(SurrogateKeys.SECTIONS),
+                "tree:" + sections.tag() + ":" + blogs.tag(), lastModified, sectionService::getSectionTree);
     }
 
     @GetMapping("/{sectionSlug}")
     @Operation(summary = "Get section by slug", description = "Returns a single section with its subsections")
     public ResponseEntity<SectionResponse> getSectionBySlug(
-            @Parameter(description = "Section slug", example = "literature") @PathVariable String sectionSlug) {
-        return ResponseEntity.ok(sectionService.getSectionBySlug(sectionSlug));
+            @Parameter(description = "Section slug", example = "literature") @PathVariable String sectionSlug,
+            WebRequest request) {
+        return respond(request, "section:" + sectionSlug, () -> sectionService.getSectionBySlug(sectionSlug));
     }
 
     @GetMapping("/{sectionSlug}/subsections")
     @Operation(summary = "Get subsections", description = "Returns all subsections for a given section")
     public ResponseEntity<List<SubsectionResponse>> getSubsections(
-            @Parameter(description = "Section slug", example = "literature") @PathVariable String sectionSlug) {
-        return ResponseEntity.ok(sectionService.getSubsectionsBySectionSlug(sectionSlug));
+            @Parameter(description = "Section slug", example = "literature") @PathVariable String sectionSlug,
+            WebRequest request) {
+        return respond(request, "subsections:" + sectionSlug,
+                () -> sectionService.getSubsectionsBySectionSlug(sectionSlug));
+    }
+
+    /**
+     * Conditional response versioned by the taxonomy alone.
+     */
+    private <T> ResponseEntity<T> respond(WebRequest request, String resource, Supplier<T> body) {
+        ResourceVersions.Version version = resourceVersions.current(SurrogateKeys.SECTIONS);
+        return httpCaching.respond(request, HttpCaching.Audience.EVERYONE, List.of(SurrogateKeys.SECTIONS),
+                resource + ":" + version.tag(), version.lastModified(), body);
     }
 }
@@ -1,5 +1,6 @@
 package com.blogapp.section.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,4 +30,8 @@ public class SectionResponse {
 
     @Schema(description = "Subsections within this section")
     private List<SubsectionResponse> subsections;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Published posts in this section (section tree only)")
+    private Long publishedCount;
 }
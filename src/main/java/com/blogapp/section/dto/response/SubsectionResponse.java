@@ -1,5 +1,6 @@
 package com.blogapp.section.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,4 +31,8 @@ public class SubsectionResponse {
 
     @Schema(description = "Display order")
     private int sortOrder;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Published posts in this subsection (section tree only)")
+    private Long publishedCount;
 }
@@ -0,0 +1,10 @@
+package com.blogapp.section.event;
+
+/**
+ * Published after a section or subsection is created, renamed, moved or
+ * deleted and the taxonomy snapshot has been reloaded. {@code sectionId} is
+ * the affected section, or null when it is not known (any section may be
+ * affected).
+ */
+public record TaxonomyChangedEvent(String sectionId) {
+}
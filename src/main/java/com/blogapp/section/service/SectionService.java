@@ -12,6 +12,12 @@ public interface SectionService {
     // ---- Public ----
     List<SectionResponse> getAllSections();
 
+    /**
+     * All sections and subsections with published post counts, served from
+     * memory.
+     */
+    List<SectionResponse> getSectionTree();
+
     SectionResponse getSectionBySlug(String slug);
 
     List<SubsectionResponse> getSubsectionsBySectionSlug(String sectionSlug);
@@ -1,20 +1,27 @@
 package com.blogapp.section.service.impl;
 
 import com.blogapp.common.exception.BadRequestException;
+import com.blogapp.common.http.EdgeCachePurger;
+import com.blogapp.common.http.ResourceVersions;
+import com.blogapp.common.http.SurrogateKeys;
 import com.blogapp.common.exception.ResourceNotFoundException;
 import com.blogapp.common.util.SlugUtil;
+import com.blogapp.section.cache.SectionPostCounts;
+import com.blogapp.section.cache.TaxonomyCache;
+import com.blogapp.section.cache.TaxonomySnapshot;
 import com.blogapp.section.dto.request.SectionRequest;
 import com.blogapp.section.dto.request.SubsectionRequest;
 import com.blogapp.section.dto.response.SectionResponse;
 import com.blogapp.section.dto.response.SubsectionResponse;
 import com.blogapp.section.entity.Section;
 import com.blogapp.section.entity.Subsection;
+import com.blogapp.section.event.TaxonomyChangedEvent;
 import com.blogapp.section.repository.SectionRepository;
 import com.blogapp.section.repository.SubsectionRepository;
 import com.blogapp.section.service.SectionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -27,27 +34,50 @@ public class SectionServiceImpl implements SectionService {
 
     private final SectionRepository sectionRepository;
     private final SubsectionRepository subsectionRepository;
+    private final TaxonomyCache taxonomyCache;
+    private final SectionPostCounts sectionPostCounts;
+    private final ResourceVersions resourceVersions;
+    private final EdgeCachePurger edgeCachePurger;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ===================== PUBLIC =====================
 
     @Override
     public List<SectionResponse> getAllSections() {
-        List<Section> sections = sectionRepository.findAll(Sort.by(Sort.Direction.ASC, "sortOrder"));
-        return sections.stream().map(this::toSectionResponseWithSubsections).collect(Collectors.toList());
+        TaxonomySnapshot taxonomy = taxonomyCache.snapshot();
+        return taxonomy.sections().stream()
+                .map(section -> toSectionResponseWithSubsections(section, taxonomy))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SectionResponse> getSectionTree() {
+        TaxonomySnapshot taxonomy = taxonomyCache.snapshot();
+        return taxonomy.sections().stream()
+                .map(section -> {
+                    SectionResponse response = toSectionResponseWithSubsections(section, taxonomy);
+                    response.setPublishedCount(sectionPostCounts.sectionCount(section.getId()));
+                    response.getSubsections().forEach(sub -> sub.setPublishedCount(
+                            sectionPostCounts.subsectionCount(sub.getId())));
+                    return response;
+                })
+                .collect(Collectors.toList());
     }
 
     @Override
     public SectionResponse getSectionBySlug(String slug) {
-        Section section = sectionRepository.findBySlug(slug)
+        TaxonomySnapshot taxonomy = taxonomyCache.snapshot();
+        Section section = taxonomy.sectionBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Section not found: " + slug));
-        return toSectionResponseWithSubsections(section);
+        return toSectionResponseWithSubsections(section, taxonomy);
     }
 
     @Override
     public List<SubsectionResponse> getSubsectionsBySectionSlug(String sectionSlug) {
-        Section section = sectionRepository.findBySlug(sectionSlug)
+        TaxonomySnapshot taxonomy = taxonomyCache.snapshot();
+        Section section = taxonomy.sectionBySlug(sectionSlug)
                 .orElseThrow(() -> new ResourceNotFoundException("Section not found: " + sectionSlug));
-        return subsectionRepository.findBySectionIdOrderBySortOrderAsc(section.getId())
+        return taxonomy.subsectionsOf(section.getId())
                 .stream().map(this::toSubsectionResponse).collect(Collectors.toList());
     }
 
@@ -66,6 +96,7 @@ public class SectionServiceImpl implements SectionService {
                 .sortOrder(request.getSortOrder() != null ? request.getSortOrder() : 0)
                 .build();
         section = sectionRepository.save(section);
+        taxonomyChanged(section.getId());
         log.info("Created section: {} ({})", section.getName(), section.getId());
         return toSectionResponse(section);
     }
@@ -81,8 +112,9 @@ public class SectionServiceImpl implements SectionService {
             section.setSortOrder(request.getSortOrder());
         }
         section = sectionRepository.save(section);
+        taxonomyChanged(section.getId());
         log.info("Updated section: {} ({})", section.getName(), section.getId());
-        return toSectionResponseWithSubsections(section);
+        return toSectionResponseWithSubsections(section, taxonomyCache.snapshot());
     }
 
     @Override
@@ -94,6 +126,7 @@ public class SectionServiceImpl implements SectionService {
         List<Subsection> subsections = subsectionRepository.findBySectionIdOrderBySortOrderAsc(id);
         subsectionRepository.deleteAll(subsections);
         sectionRepository.deleteById(id);
+        taxonomyChanged(id);
         log.info("Deleted section {} and {} subsections", id, subsections.size());
     }
 
@@ -116,6 +149,7 @@ public class SectionServiceImpl implements SectionService {
                 .sortOrder(request.getSortOrder() != null ? request.getSortOrder() : 0)
                 .build();
         subsection = subsectionRepository.save(subsection);
+        taxonomyChanged(sectionId);
         log.info("Created subsection: {} ({}) under section {}", subsection.getName(), subsection.getId(), sectionId);
         return toSubsectionResponse(subsection);
     }
@@ -132,32 +166,49 @@ public class SectionServiceImpl implements SectionService {
             subsection.setSortOrder(request.getSortOrder());
         }
         subsection = subsectionRepository.save(subsection);
+        taxonomyChanged(subsection.getSectionId());
         log.info("Updated subsection: {} ({})", subsection.getName(), subsection.getId());
         return toSubsectionResponse(subsection);
     }
 
     @Override
     public void deleteSubsection(String subsectionId) {
-        if (!subsectionRepository.existsById(subsectionId)) {
-            throw new ResourceNotFoundException("Subsection not found: " + subsectionId);
-        }
+        Subsection subsection = subsectionRepository.findById(subsectionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Subsection not found: " + subsectionId));
         subsectionRepository.deleteById(subsectionId);
+        taxonomyChanged(subsection.getSectionId());
         log.info("Deleted subsection {}", subsectionId);
     }
 
     // ===================== INTERNAL HELPERS =====================
 
+    /**
+     * Swap in a fresh taxonomy snapshot, drop rendered posts of the section
+     * (they carry its names) and invalidate HTTP caches of the section tree
+     * and those posts. Listeners run before the purge, so the edge refetches
+     * fresh responses.
+     */
+    private void taxonomyChanged(String sectionId) {
+        taxonomyCache.reload();
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(sectionId));
+        resourceVersions.bump(SurrogateKeys.SECTIONS);
+        edgeCachePurger.purge(SurrogateKeys.withSections(List.of(SurrogateKeys.SECTIONS), sectionId));
+    }
+
     @Override
     public String resolveSectionId(String sectionSlug) {
-        return sectionRepository.findBySlug(sectionSlug)
+        return taxonomyCache.snapshot().sectionBySlug(sectionSlug)
                 .map(Section::getId)
                 .orElseThrow(() -> new ResourceNotFoundException("Section not found: " + sectionSlug));
     }
 
     @Override
     public String resolveSubsectionId(String sectionSlug, String subsectionSlug) {
-        String sectionId = resolveSectionId(sectionSlug);
-        return subsectionRepository.findBySectionIdAndSlug(sectionId, subsectionSlug)
+        TaxonomySnapshot taxonomy = taxonomyCache.snapshot();
+        String sectionId = taxonomy.sectionBySlug(sectionSlug)
+                .map(Section::getId)
+                .orElseThrow(() -> new ResourceNotFoundException("Section not found: " + sectionSlug));
+        return taxonomy.subsectionBySlug(sectionId, subsectionSlug)
                 .map(Subsection::getId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Subsection not found: " + subsectionSlug + " in section " + sectionSlug));
@@ -174,9 +225,8 @@ public class SectionServiceImpl implements SectionService {
                 .build();
     }
 
-    private SectionResponse toSectionResponseWithSubsections(Section section) {
-        List<SubsectionResponse> subs = subsectionRepository
-                .findBySectionIdOrderBySortOrderAsc(section.getId())
+    private SectionResponse toSectionResponseWithSubsections(Section section, TaxonomySnapshot taxonomy) {
+        List<SubsectionResponse> subs = taxonomy.subsectionsOf(section.getId())
                 .stream().map(this::toSubsectionResponse).collect(Collectors.toList());
 
         return SectionResponse.builder()
@@ -0,0 +1,52 @@
+package com.blogapp.user.cache;
+
+import com.blogapp.user.entity.User;
+import com.blogapp.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of authenticated users, keyed by user id, so the JWT
+ * filter doesn't read the users collection on every request.
+ *
+ * Entries are dropped when the user is changed through UserService; the TTL
+ * bounds staleness for any other writer. Size, hit ratio and evictions are
+ * published under the "user.principal" cache name.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> cache;
+
+    public UserPrincipalCache(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${blog.auth.principal-cache-ttl-seconds:60}") long ttlSeconds,
+            @Value("${blog.auth.principal-cache-max-entries:10000}") long maxEntries) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.principal");
+    }
+
+    /**
+     * The user with this id — cached, or loaded from MongoDB. Unknown ids are
+     * not cached.
+     */
+    public Optional<User> get(String userId) {
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findById(id).orElse(null)));
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.blogapp.user.service.impl;
 
+import com.blogapp.user.cache.UserPrincipalCache;
 import com.blogapp.user.entity.User;
 import com.blogapp.user.repository.UserRepository;
 import com.blogapp.user.service.UserService;
@@ -14,6 +15,7 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public User findOrCreateByEmail(String email) {
@@ -40,7 +42,9 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found: " + userId));
         user.setEmailVerifiedAt(LocalDateTime.now());
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userPrincipalCache.invalidate(userId);
+        return saved;
     }
 
     @Override
@@ -51,6 +55,8 @@ public class UserServiceImpl implements UserService {
             user.setName(name);
         if (mobile != null)
             user.setMobile(mobile);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userPrincipalCache.invalidate(userId);
+        return saved;
     }
 }
@@ -0,0 +1,125 @@
+package com.blogapp.blog.counter;
+
+import com.blogapp.blog.repository.BlogPostCounterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ViewCountBufferTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 50_000;
+
+    private final AtomicLong written = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), any(Class.class)))
+                .thenAnswer(invocation -> recordingBulkOps());
+    }
+
+    @Test
+    void viewsAreBufferedUntilFlushed() {
+        ViewCountBuffer buffer = new ViewCountBuffer(mongoTemplate, meterRegistry, 10);
+
+        buffer.increment("blog-1");
+        buffer.increment("blog-1");
+
+        assertThat(buffer.pending("blog-1")).isEqualTo(2);
+        assertThat(written.get()).isZero();
+
+        buffer.flush();
+
+        assertThat(buffer.pending("blog-1")).isZero();
+        assertThat(written.get()).isEqualTo(2);
+    }
+
+    @Test
+    void viewsOfNewBlogsAreDroppedWhenFull() {
+        ViewCountBuffer buffer = new ViewCountBuffer(mongoTemplate, meterRegistry, 1);
+
+        assertThat(buffer.increment("blog-1")).isTrue();
+        assertThat(buffer.increment("blog-2")).isFalse();
+        assertThat(buffer.increment("blog-1")).isTrue();
+
+        assertThat(buffer.pending("blog-1")).isEqualTo(2);
+        assertThat(buffer.pending("blog-2")).isZero();
+        assertThat(meterRegistry.counter("blog.views.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void noViewIsLostOrWrittenTwiceWhileFlushing() throws Exception {
+        ViewCountBuffer buffer = new ViewCountBuffer(mongoTemplate, meterRegistry, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean viewing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                viewers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                        buffer.increment("blog-1");
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (viewing.get()) {
+                    buffer.flush();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> viewer : viewers) {
+                viewer.get(60, TimeUnit.SECONDS);
+            }
+            viewing.set(false);
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        buffer.flush();
+
+        assertThat(written.get()).isEqualTo((long) THREADS * VIEWS_PER_THREAD);
+        assertThat(buffer.pending("blog-1")).isZero();
+    }
+
+    private BulkOperations recordingBulkOps() {
+        BulkOperations ops = mock(BulkOperations.class);
+        when(ops.updateOne(any(Query.class), any(Update.class))).thenAnswer(invocation -> {
+            Update update = invocation.getArgument(1);
+            Document inc = (Document) update.getUpdateObject().get("$inc");
+            written.addAndGet(((Number) inc.get(BlogPostCounterRepository.VIEWS)).longValue());
+            return ops;
+        });
+        return ops;
+    }
+}
@@ -0,0 +1,73 @@
+package com.blogapp.blog.counter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewDeduplicatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ViewDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new ViewDeduplicator(meterRegistry, 10_000, 0.001);
+    }
+
+    @Test
+    void repeatWithinTheWindowIsDropped() {
+        assertThat(deduplicator.firstView("visitor", "blog-1")).isTrue();
+        assertThat(deduplicator.firstView("visitor", "blog-1")).isFalse();
+
+        assertThat(meterRegistry.counter("blog.views.dedup.accepted").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("blog.views.dedup.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void otherVisitorsAndBlogsAreCounted() {
+        assertThat(deduplicator.firstView("visitor", "blog-1")).isTrue();
+
+        assertThat(deduplicator.firstView("other", "blog-1")).isTrue();
+        assertThat(deduplicator.firstView("visitor", "blog-2")).isTrue();
+    }
+
+    @Test
+    void viewsWithoutVisitorAreAlwaysCounted() {
+        assertThat(deduplicator.firstView(null, "blog-1")).isTrue();
+        assertThat(deduplicator.firstView(null, "blog-1")).isTrue();
+        assertThat(deduplicator.firstView(" ", "blog-1")).isTrue();
+    }
+
+    @Test
+    void repeatIsRememberedAfterOneRotation() {
+        deduplicator.firstView("visitor", "blog-1");
+
+        deduplicator.rotate();
+
+        assertThat(deduplicator.firstView("visitor", "blog-1")).isFalse();
+    }
+
+    @Test
+    void repeatIsCountedAgainAfterTwoRotations() {
+        deduplicator.firstView("visitor", "blog-1");
+
+        deduplicator.rotate();
+        deduplicator.rotate();
+
+        assertThat(deduplicator.firstView("visitor", "blog-1")).isTrue();
+    }
+
+    @Test
+    void repeatAfterOneRotationStartsTheWindowAgain() {
+        deduplicator.firstView("visitor", "blog-1");
+        deduplicator.rotate();
+        deduplicator.firstView("visitor", "blog-1");
+
+        deduplicator.rotate();
+
+        assertThat(deduplicator.firstView("visitor", "blog-1")).isFalse();
+    }
+}
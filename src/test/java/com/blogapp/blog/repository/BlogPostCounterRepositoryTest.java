@@ -0,0 +1,175 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.BlogPostCounters;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link BlogPostCounterRepositoryImpl} against a real MongoDB: many
+ * threads changing the same post's counters must all land, decrements must
+ * stop at zero, and a combined update whose decrement is refused must still
+ * apply its increments. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BlogPostCounterRepositoryTest {
+
+    private static final int THREADS = 32;
+    private static final int OPERATIONS = 2_000;
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+
+    private BlogPostCounterRepository repository;
+    private ExecutorService executor;
+    private String blogId;
+
+    @BeforeAll
+    static void connect() {
+        client = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(client, "counters-test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = new BlogPostCounterRepositoryImpl(mongoTemplate);
+        executor = Executors.newFixedThreadPool(THREADS);
+        ObjectId id = new ObjectId();
+        blogId = id.toHexString();
+        mongoTemplate.getCollection("blog_posts").insertOne(new Document("_id", id)
+                .append(BlogPostCounterRepository.VIEWS, 0L)
+                .append(BlogPostCounterRepository.LIKES, 0L)
+                .append(BlogPostCounterRepository.DISLIKES, 0L)
+                .append(BlogPostCounterRepository.COMMENTS, 0L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIncrementsAreAllApplied() throws Exception {
+        runConcurrently(i -> repository.incrementCounters(blogId, Map.of(BlogPostCounterRepository.LIKES, 1)));
+
+        assertThat(counters().getLikesCount()).isEqualTo(OPERATIONS);
+    }
+
+    @Test
+    void appliedDeltasAreReported() {
+        Optional<BlogPostCounters> result = repository.incrementCounters(blogId,
+                Map.of(BlogPostCounterRepository.LIKES, 1));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getAppliedDeltas()).containsExactly(Map.entry(BlogPostCounterRepository.LIKES, 1));
+    }
+
+    @Test
+    void concurrentSwitchesKeepTheTotal() throws Exception {
+        runConcurrently(i -> repository.incrementCounters(blogId, Map.of(BlogPostCounterRepository.LIKES, 1)));
+        runConcurrently(i -> {
+            if (i % 2 == 0) {
+                repository.incrementCounters(blogId, Map.of(
+                        BlogPostCounterRepository.LIKES, -1,
+                        BlogPostCounterRepository.DISLIKES, 1));
+            }
+        });
+
+        BlogPostCounters counters = counters();
+        assertThat(counters.getLikesCount()).isEqualTo(OPERATIONS / 2);
+        assertThat(counters.getDislikesCount()).isEqualTo(OPERATIONS / 2);
+    }
+
+    @Test
+    void concurrentDecrementsStopAtZero() throws Exception {
+        repository.incrementCounters(blogId, Map.of(BlogPostCounterRepository.COMMENTS, 100));
+
+        runConcurrently(i -> repository.incrementCounters(blogId, Map.of(BlogPostCounterRepository.COMMENTS, -1)));
+
+        assertThat(counters().getCommentsCount()).isZero();
+    }
+
+    @Test
+    void decrementBelowZeroIsNotApplied() {
+        Optional<BlogPostCounters> result = repository.incrementCounters(blogId,
+                Map.of(BlogPostCounterRepository.COMMENTS, -1));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getCommentsCount()).isZero();
+        assertThat(result.get().getAppliedDeltas()).isEmpty();
+        assertThat(counters().getCommentsCount()).isZero();
+    }
+
+    @Test
+    void refusedDecrementStillAppliesIncrements() {
+        Optional<BlogPostCounters> result = repository.incrementCounters(blogId, Map.of(
+                BlogPostCounterRepository.LIKES, -1,
+                BlogPostCounterRepository.DISLIKES, 1));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getLikesCount()).isZero();
+        assertThat(result.get().getDislikesCount()).isEqualTo(1);
+        assertThat(result.get().getAppliedDeltas()).containsExactly(Map.entry(BlogPostCounterRepository.DISLIKES, 1));
+        assertThat(counters().getDislikesCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownBlogIsEmpty() {
+        assertThat(repository.incrementCounters(new ObjectId().toHexString(),
+                Map.of(BlogPostCounterRepository.LIKES, 1))).isEmpty();
+        assertThat(repository.incrementCounters(new ObjectId().toHexString(),
+                Map.of(BlogPostCounterRepository.LIKES, -1))).isEmpty();
+    }
+
+    private BlogPostCounters counters() {
+        return repository.findCounters(blogId).orElseThrow();
+    }
+
+    private void runConcurrently(IntConsumer operation) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            int n = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                operation.accept(n);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+    }
+}
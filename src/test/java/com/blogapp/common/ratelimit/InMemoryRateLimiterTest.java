@@ -0,0 +1,174 @@
+package com.blogapp.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimiterTest {
+
+    private static final int LIMIT = 5;
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final MutableClock clock = new MutableClock();
+    private final InMemoryRateLimiter limiter = new InMemoryRateLimiter(1_000, 600, clock);
+
+    @Test
+    void allowsUpToTheLimit() {
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(limiter.tryAcquire("key", LIMIT, WINDOW)).isTrue();
+        }
+    }
+
+    @Test
+    void rejectsOverTheLimit() {
+        acquireLimit("key");
+
+        assertThat(limiter.tryAcquire("key", LIMIT, WINDOW)).isFalse();
+        assertThat(limiter.tryAcquire("key", LIMIT, WINDOW)).isFalse();
+    }
+
+    @Test
+    void keysAreLimitedSeparately() {
+        acquireLimit("key");
+
+        assertThat(limiter.tryAcquire("other", LIMIT, WINDOW)).isTrue();
+    }
+
+    @Test
+    void previousWindowStillCountsWhileItOverlaps() {
+        acquireLimit("key");
+
+        // A tenth into the next window 90% of the previous count (4.5) still applies
+        clock.advance(WINDOW.plus(WINDOW.dividedBy(10)));
+
+        assertThat(limiter.tryAcquire("key", LIMIT, WINDOW)).isTrue();
+        assertThat(limiter.tryAcquire("key", LIMIT, WINDOW)).isFalse();
+    }
+
+    @Test
+    void windowSlidesAsTimePasses() {
+        acquireLimit("key");
+
+        // Halfway into the next window half of the previous count (2.5) still applies
+        clock.advance(WINDOW.plus(WINDOW.dividedBy(2)));
+
+        assertThat(allowedOf(5)).isEqualTo(3);
+
+        // Near its end the previous count has all but faded, leaving room beside the 3
+        clock.advance(WINDOW.dividedBy(2).minusSeconds(1));
+
+        assertThat(allowedOf(5)).isEqualTo(2);
+    }
+
+    @Test
+    void limitResetsAfterTwoWindows() {
+        acquireLimit("key");
+
+        clock.advance(WINDOW.multipliedBy(2));
+
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(limiter.tryAcquire("key", LIMIT, WINDOW)).isTrue();
+        }
+        assertThat(limiter.tryAcquire("key", LIMIT, WINDOW)).isFalse();
+    }
+
+    @Test
+    void idleKeysExpire() {
+        InMemoryRateLimiter shortLived = new InMemoryRateLimiter(1_000, 10, clock);
+        for (int i = 0; i < LIMIT; i++) {
+            shortLived.tryAcquire("key", LIMIT, WINDOW);
+        }
+
+        clock.advance(Duration.ofSeconds(11));
+
+        // Still inside the window, so only expiry explains the reset
+        assertThat(shortLived.tryAcquire("key", LIMIT, WINDOW)).isTrue();
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedTheLimit() throws Exception {
+        int threads = 16;
+        int attempts = 10_000;
+        int limit = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (limiter.tryAcquire("key", limit, WINDOW)) {
+                        allowed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(allowed.get()).isEqualTo(limit);
+    }
+
+    private int allowedOf(int attempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (limiter.tryAcquire("key", LIMIT, WINDOW)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    private void acquireLimit(String key) {
+        for (int i = 0; i < LIMIT; i++) {
+            limiter.tryAcquire(key, LIMIT, WINDOW);
+        }
+    }
+
+    /**
+     * Starts at the beginning of a window and moves only when told to.
+     */
+    private static class MutableClock extends Clock {
+
+        private volatile Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
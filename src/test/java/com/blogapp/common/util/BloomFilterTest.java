@@ -0,0 +1,99 @@
+package com.blogapp.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 20_000;
+    private static final double TARGET_RATE = 0.01;
+
+    @Test
+    void addedValuesAreAlwaysFound() {
+        BloomFilter filter = filledFilter();
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("member-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateIsNearTheTarget() {
+        BloomFilter filter = filledFilter();
+
+        int falsePositives = 0;
+        int probes = 200_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("stranger-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(TARGET_RATE * 2);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(TARGET_RATE / 2, TARGET_RATE * 2);
+    }
+
+    @Test
+    void putReportsWhetherTheValueWasNew() {
+        BloomFilter filter = new BloomFilter(1_000, TARGET_RATE);
+
+        assertThat(filter.put("visitor:blog")).isTrue();
+        assertThat(filter.put("visitor:blog")).isFalse();
+    }
+
+    @Test
+    void clearForgetsEverything() {
+        BloomFilter filter = filledFilter();
+
+        filter.clear();
+
+        assertThat(filter.mightContain("member-1")).isFalse();
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+    }
+
+    @Test
+    void concurrentPutsAreAllKept() throws Exception {
+        BloomFilter filter = new BloomFilter(INSERTIONS, TARGET_RATE);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < INSERTIONS; i++) {
+            int n = i;
+            executor.execute(() -> filter.put("member-" + n));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("member-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void sizeFollowsTheStandardFormula() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, TARGET_RATE);
+
+        // m = -n ln p / (ln 2)^2 ≈ 9.59 bits per element at 1%, rounded up to whole words
+        double bits = -INSERTIONS * Math.log(TARGET_RATE) / (Math.log(2) * Math.log(2));
+        assertThat(filter.sizeInBytes() * 8).isBetween((long) bits, (long) bits + 64);
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThatThrownBy(() -> new BloomFilter(0, TARGET_RATE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BloomFilter filledFilter() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, TARGET_RATE);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("member-" + i);
+        }
+        return filter;
+    }
+}
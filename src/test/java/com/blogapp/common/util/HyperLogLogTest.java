@@ -0,0 +1,104 @@
+package com.blogapp.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    // ~3 standard errors at precision 12
+    private static final double TOLERANCE = 0.05;
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000 })
+    void estimateIsWithinError(int distinct) {
+        HyperLogLog sketch = sketchOf(0, distinct);
+
+        assertThat((double) sketch.estimate()).isCloseTo(distinct, within(Math.max(1, distinct * TOLERANCE)));
+    }
+
+    @Test
+    void repeatedValuesAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 5_000; i++) {
+                sketch.add("visitor-" + i);
+            }
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(5_000, within(5_000 * TOLERANCE));
+    }
+
+    @Test
+    void mergeEstimatesTheUnion() {
+        HyperLogLog first = sketchOf(0, 60_000);
+        HyperLogLog second = sketchOf(40_000, 100_000);
+
+        first.merge(second);
+
+        assertThat((double) first.estimate()).isCloseTo(100_000, within(100_000 * TOLERANCE));
+    }
+
+    @Test
+    void mergeMatchesSketchingEverythingTogether() {
+        HyperLogLog merged = sketchOf(0, 30_000);
+        merged.merge(sketchOf(30_000, 50_000));
+
+        assertThat(merged.toBytes()).isEqualTo(sketchOf(0, 50_000).toBytes());
+    }
+
+    @Test
+    void mergingTheSameSketchAgainChangesNothing() {
+        HyperLogLog sketch = sketchOf(0, 20_000);
+        byte[] before = sketch.toBytes();
+
+        sketch.merge(HyperLogLog.fromBytes(before));
+        sketch.merge(sketch);
+
+        assertThat(sketch.toBytes()).isEqualTo(before);
+    }
+
+    @Test
+    void ranksStayWithinTheRemainingHashBits() {
+        byte[] registers = sketchOf(0, 200_000).toBytes();
+
+        for (byte register : registers) {
+            assertThat((int) register).isBetween(0, 64 - HyperLogLog.PRECISION + 1);
+        }
+    }
+
+    @Test
+    void roundTripsThroughBytes() {
+        HyperLogLog sketch = sketchOf(0, 12_345);
+
+        HyperLogLog copy = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertThat(copy.estimate()).isEqualTo(sketch.estimate());
+        assertThat(copy.toBytes()).isEqualTo(sketch.toBytes());
+    }
+
+    @Test
+    void rejectsRegistersOfTheWrongSize() {
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[16]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add("visitor-" + i);
+        }
+        return sketch;
+    }
+}